@@ -0,0 +1,78 @@
+package com.example.ContactManagementApiBenchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.example.ContactManagementApi.Entity.Contact;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the JSON, CBOR and Smile encodings of contact lists, as negotiated
+ * by the Accept header: the time to encode and decode a list, and, printed
+ * once per trial, the size of the encoded list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+	private static final TypeReference<List<Contact>> CONTACT_LIST = new TypeReference<>() {
+	};
+
+	@Param({ "json", "cbor", "smile" })
+	private String format;
+
+	@Param({ "10", "100", "1000" })
+	private int size;
+
+	private ObjectMapper objectMapper;
+
+	private List<Contact> contacts;
+
+	private byte[] encoded;
+
+	@Setup
+	public void setUp() throws IOException {
+		// Built the way the application builds the mapper of each converter
+		objectMapper = switch (format) {
+		case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+		case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+		default -> Jackson2ObjectMapperBuilder.json().build();
+		};
+		contacts = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			contacts.add(Fixtures.contact(i));
+		}
+		encoded = objectMapper.writeValueAsBytes(contacts);
+		System.out.printf("%n%s, %d contacts: %d bytes (%.1f per contact)%n", format, size, encoded.length,
+				(double) encoded.length / size);
+	}
+
+	@Benchmark
+	public byte[] encode() throws IOException {
+		return objectMapper.writeValueAsBytes(contacts);
+	}
+
+	@Benchmark
+	public List<Contact> decode() throws IOException {
+		return objectMapper.readValue(encoded, CONTACT_LIST);
+	}
+
+}
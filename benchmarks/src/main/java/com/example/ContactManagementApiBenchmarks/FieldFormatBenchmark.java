@@ -0,0 +1,69 @@
+package com.example.ContactManagementApiBenchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.example.ContactManagementApi.Validation.ContactFields;
+
+/**
+ * Compares checking one valid contact field with the regular expression that
+ * @Pattern used to run and with the character scan of ContactFields that
+ * replaced it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldFormatBenchmark {
+
+	@Param({ "name", "email", "phoneNumber", "address" })
+	private String field;
+
+	private String value;
+
+	private Pattern pattern;
+
+	private Predicate<CharSequence> scan;
+
+	@Setup
+	public void setUp() {
+		switch (field) {
+		case "email" -> set(Fixtures.contact(42).getEmail(), "^[A-Za-z0-9._%+-]+@[A-Za-z]+\\.[A-Za-z]{2,}$",
+				ContactFields::isEmail);
+		case "phoneNumber" -> set(Fixtures.contact(42).getPhoneNumber(), "^\\+[0-9]{2}[0-9]{10}$",
+				ContactFields::isPhoneNumber);
+		case "address" -> set(Fixtures.contact(1).getAddress(), "^[A-Za-z0-9\\s,]*$", ContactFields::isAddress);
+		default -> set(Fixtures.contact(42).getFirstName(), "^[A-Za-z]+$", ContactFields::isAlphabetic);
+		}
+	}
+
+	@Benchmark
+	public boolean regex() {
+		return pattern.matcher(value).matches();
+	}
+
+	@Benchmark
+	public boolean scan() {
+		return scan.test(value);
+	}
+
+	private void set(String value, String regex, Predicate<CharSequence> scan) {
+		this.value = value;
+		this.pattern = Pattern.compile(regex);
+		this.scan = scan;
+	}
+
+}
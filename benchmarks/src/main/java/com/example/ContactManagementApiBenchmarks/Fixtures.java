@@ -0,0 +1,95 @@
+package com.example.ContactManagementApiBenchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.Entity.ContactWithDuplicates;
+import com.example.ContactManagementApi.Security.JwtUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Builds the objects shared by the benchmarks without starting a Spring
+ * context, so only the code under test is measured.
+ */
+final class Fixtures {
+
+	// The signing key and expiration configured in application.properties
+	private static final String SECRET_KEY = "3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007b";
+
+	private static final long JWT_EXPIRATION = 3600000;
+
+	// Names are shared between contacts to keep large data sets compact
+	private static final String[] FIRST_NAMES = { "John", "Jane", "Alice", "Bob", "Carol", "David", "Eve", "Frank" };
+
+	private static final String[] LAST_NAMES = { "Smith", "Doe", "Brown", "Jones", "Miller", "Davis", "Wilson" };
+
+	private static final String[] ADDRESSES = { "1 Main Street, Springfield", "22 High Street, London",
+			"7 Park Avenue, New York", "" };
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Creates a JwtUtils wired the way Spring would, with its timers published to
+	 * an in-memory registry.
+	 */
+	static JwtUtils jwtUtils() {
+		JwtUtils jwtUtils = new JwtUtils();
+		ReflectionTestUtils.setField(jwtUtils, "secretKey", SECRET_KEY);
+		ReflectionTestUtils.setField(jwtUtils, "jwtExpiration", JWT_EXPIRATION);
+		ReflectionTestUtils.setField(jwtUtils, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.invokeMethod(jwtUtils, "registerTimers");
+		return jwtUtils;
+	}
+
+	/**
+	 * Creates a valid contact whose email and phone number are unique to the given
+	 * index.
+	 */
+	static Contact contact(long index) {
+		Contact contact = new Contact();
+		contact.setId(index);
+		contact.setFirstName(FIRST_NAMES[(int) (index % FIRST_NAMES.length)]);
+		contact.setLastName(LAST_NAMES[(int) (index % LAST_NAMES.length)]);
+		contact.setEmail(email(index));
+		contact.setPhoneNumber(phoneNumber(index));
+		contact.setAddress(ADDRESSES[(int) (index % ADDRESSES.length)]);
+		return contact;
+	}
+
+	/**
+	 * Creates the given number of contacts where roughly half of the rows are
+	 * duplicates of an earlier row, alternately by email and by phone number.
+	 */
+	static List<ContactWithDuplicates> contactsWithDuplicates(int rows) {
+		List<ContactWithDuplicates> contacts = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			ContactWithDuplicates contact = new ContactWithDuplicates();
+			contact.setId((long) i);
+			contact.setFirstName(FIRST_NAMES[i % FIRST_NAMES.length]);
+			contact.setLastName(LAST_NAMES[i % LAST_NAMES.length]);
+			contact.setAddress(ADDRESSES[i % ADDRESSES.length]);
+			if (i % 2 == 1) {
+				// Odd rows repeat the previous row's email or phone number
+				ContactWithDuplicates original = contacts.get(i - 1);
+				contact.setEmail(i % 4 == 1 ? original.getEmail() : email(i));
+				contact.setPhoneNumber(i % 4 == 3 ? original.getPhoneNumber() : phoneNumber(i));
+			} else {
+				contact.setEmail(email(i));
+				contact.setPhoneNumber(phoneNumber(i));
+			}
+			contacts.add(contact);
+		}
+		return contacts;
+	}
+
+	private static String email(long index) {
+		return "contact" + index + "@example.com";
+	}
+
+	private static String phoneNumber(long index) {
+		return String.format("+91%010d", index);
+	}
+
+}
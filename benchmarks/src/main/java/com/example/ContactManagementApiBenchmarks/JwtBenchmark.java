@@ -0,0 +1,58 @@
+package com.example.ContactManagementApiBenchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import com.example.ContactManagementApi.Security.JwtUtils;
+
+/**
+ * Measures JWT signing and parsing in JwtUtils, the work done on every login
+ * and on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+	private JwtUtils jwtUtils;
+
+	private UserDetails userDetails;
+
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtils = Fixtures.jwtUtils();
+		userDetails = User.withUsername("benchmark").password("secret").authorities("ROLE_USER").build();
+		token = jwtUtils.generateToken(userDetails);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtils.generateToken(userDetails);
+	}
+
+	@Benchmark
+	public String getUsernameFromToken() {
+		return jwtUtils.getUsernameFromtoken(token);
+	}
+
+	@Benchmark
+	public boolean isTokenValid() {
+		return jwtUtils.isTokenValid(token, userDetails);
+	}
+
+}
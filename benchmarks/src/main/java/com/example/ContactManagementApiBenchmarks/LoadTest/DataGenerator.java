@@ -0,0 +1,141 @@
+package com.example.ContactManagementApiBenchmarks.LoadTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.Entity.ContactWithDuplicates;
+import com.example.ContactManagementApi.Entity.User;
+import com.example.ContactManagementApi.Enum.RoleEnum;
+import com.example.ContactManagementApi.Repository.ContactRepository;
+import com.example.ContactManagementApi.Repository.ContactWithDuplicatesRepository;
+import com.example.ContactManagementApi.Repository.UserRepository;
+import com.example.ContactManagementApi.Service.RoleRegistry;
+
+/**
+ * Seeds the database with synthetic users and contacts through the
+ * application's own repositories.
+ * 
+ * The data only depends on the seed, so two runs with the same options work on
+ * the same data set. Contact fields follow the validation rules of the
+ * entities, and the email and phone number of a contact are derived from its
+ * index, so the workload can build valid updates without reading the row.
+ */
+class DataGenerator {
+
+	static final String PASSWORD = "loadtest-password";
+
+	private static final String[] FIRST_NAMES = { "John", "Jane", "Alice", "Bob", "Carol", "David", "Eve", "Frank" };
+
+	private static final String[] LAST_NAMES = { "Smith", "Doe", "Brown", "Jones", "Miller", "Davis", "Wilson" };
+
+	private static final String[] ADDRESSES = { "1 Main Street, Springfield", "22 High Street, London",
+			"7 Park Avenue, New York", "" };
+
+	// Rows are saved in chunks to keep each transaction short
+	private static final int CHUNK_SIZE = 500;
+
+	private final ApplicationContext context;
+
+	private final SplittableRandom random;
+
+	DataGenerator(ApplicationContext context, long seed) {
+		this.context = context;
+		this.random = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Seeds the users, contacts and duplicate contacts described by the given
+	 * options.
+	 */
+	SeededData seed(LoadTestProperties properties) {
+		String[] usernames = seedUsers(properties.users());
+		long[] contactIds = seedContacts(properties.contacts());
+		seedDuplicateContacts(properties.duplicateContacts());
+		return new SeededData("loadtest-admin", usernames, PASSWORD, contactIds);
+	}
+
+	/**
+	 * Creates a valid contact for the given index with a random name and address.
+	 */
+	static Contact contact(long index, SplittableRandom random) {
+		Contact contact = new Contact();
+		contact.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+		contact.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+		contact.setEmail(email(index));
+		contact.setPhoneNumber(phoneNumber(index));
+		contact.setAddress(ADDRESSES[random.nextInt(ADDRESSES.length)]);
+		return contact;
+	}
+
+	// Seeds one admin and the given number of users sharing one password
+	private String[] seedUsers(int count) {
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		RoleRegistry roleRegistry = context.getBean(RoleRegistry.class);
+		String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD); // Encoded once, BCrypt is slow
+
+		List<User> users = new ArrayList<>(count + 1);
+		User admin = new User().setUsername("loadtest-admin").setPassword(encodedPassword);
+		admin.getRoles().add(roleRegistry.getRole(RoleEnum.ROLE_ADMIN));
+		users.add(admin);
+
+		String[] usernames = new String[count];
+		for (int i = 0; i < count; i++) {
+			usernames[i] = "loadtest-user-" + i;
+			User user = new User().setUsername(usernames[i]).setPassword(encodedPassword);
+			user.getRoles().add(roleRegistry.getRole(RoleEnum.ROLE_USER));
+			users.add(user);
+		}
+		userRepository.saveAll(users);
+		return usernames;
+	}
+
+	// Seeds the given number of contacts and returns their identifiers by index
+	private long[] seedContacts(int count) {
+		ContactRepository contactRepository = context.getBean(ContactRepository.class);
+		long[] ids = new long[count];
+		for (int start = 0; start < count; start += CHUNK_SIZE) {
+			List<Contact> chunk = new ArrayList<>(CHUNK_SIZE);
+			for (int i = start; i < Math.min(start + CHUNK_SIZE, count); i++) {
+				chunk.add(contact(i, random));
+			}
+			List<Contact> saved = contactRepository.saveAll(chunk);
+			for (int i = 0; i < saved.size(); i++) {
+				ids[start + i] = saved.get(i).getId();
+			}
+		}
+		return ids;
+	}
+
+	// Seeds duplicate contacts where every odd row repeats the email or phone
+	// number of the row before it
+	private void seedDuplicateContacts(int count) {
+		ContactWithDuplicatesRepository repository = context.getBean(ContactWithDuplicatesRepository.class);
+		List<ContactWithDuplicates> chunk = new ArrayList<>(CHUNK_SIZE);
+		for (int i = 0; i < count; i++) {
+			long index = i % 2 == 0 ? i : i - 1;
+			ContactWithDuplicates contact = new ContactWithDuplicates();
+			contact.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+			contact.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+			contact.setEmail(email(i % 4 == 1 ? index : i));
+			contact.setPhoneNumber(phoneNumber(i % 4 == 3 ? index : i));
+			contact.setAddress(ADDRESSES[random.nextInt(ADDRESSES.length)]);
+			chunk.add(contact);
+			if (chunk.size() == CHUNK_SIZE || i == count - 1) {
+				repository.saveAll(chunk);
+				chunk.clear();
+			}
+		}
+	}
+
+	private static String email(long index) {
+		return "contact" + index + "@example.com";
+	}
+
+	private static String phoneNumber(long index) {
+		return String.format("+91%010d", index);
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.example.ContactManagementApiBenchmarks.LoadTest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives the mixed workload against the running application.
+ * 
+ * Each of the configured number of virtual threads runs a closed loop: it picks
+ * an operation by weight, sends the request, waits for the response and records
+ * its latency. Every thread has its own random generator derived from the seed,
+ * so the sequence of operations is the same between runs.
+ */
+class LoadGenerator {
+
+	// Indexes of contacts created by REGISTER start here, clear of the seeded ones
+	private static final long REGISTERED_INDEX_OFFSET = 1_000_000_000L;
+
+	private final HttpClient httpClient;
+
+	private final URI baseUri;
+
+	private final SeededData data;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// Every operation appears as often as its weight, so picking is one array read
+	private final Operation[] schedule;
+
+	// Counts the contacts created by REGISTER to keep their email and phone unique
+	private final AtomicLong registered = new AtomicLong();
+
+	private String adminToken;
+
+	LoadGenerator(HttpClient httpClient, URI baseUri, SeededData data, LoadTestProperties properties) {
+		this.httpClient = httpClient;
+		this.baseUri = baseUri;
+		this.data = data;
+		List<Operation> schedule = new ArrayList<>();
+		for (Operation operation : Operation.values()) {
+			for (int i = 0; i < properties.weightOf(operation); i++) {
+				schedule.add(operation);
+			}
+		}
+		if (schedule.isEmpty()) {
+			throw new IllegalArgumentException("loadtest.mix does not give any operation a weight");
+		}
+		this.schedule = schedule.toArray(Operation[]::new);
+	}
+
+	/**
+	 * Logs in as the seeded admin; the contact endpoints are sent with its token.
+	 */
+	void loginAdmin() throws IOException, InterruptedException {
+		HttpResponse<byte[]> response = send(login("/api/auth/login/admin", data.adminUsername()));
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Admin login failed with status " + response.statusCode());
+		}
+		adminToken = objectMapper.readTree(response.body()).get("token").asText();
+	}
+
+	/**
+	 * Runs the workload for the given duration and returns what was measured.
+	 */
+	LoadTestReport run(Duration duration, int concurrency, long seed) {
+		Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+		Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+		for (Operation operation : Operation.values()) {
+			latencies.put(operation, new ConcurrentHistogram(3));
+			errors.put(operation, new LongAdder());
+		}
+
+		long start = System.nanoTime();
+		long deadline = start + duration.toNanos();
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				SplittableRandom random = new SplittableRandom(seed + i);
+				workers.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						Operation operation = schedule[random.nextInt(schedule.length)];
+						long sent = System.nanoTime();
+						try {
+							HttpResponse<byte[]> response = send(request(operation, random));
+							if (response.statusCode() / 100 == 2) {
+								latencies.get(operation).recordValue(System.nanoTime() - sent);
+							} else {
+								errors.get(operation).increment();
+							}
+						} catch (IOException e) {
+							errors.get(operation).increment();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							return;
+						}
+					}
+				});
+			}
+		} // Closing the executor waits for every worker to pass the deadline
+		return LoadTestReport.of(Duration.ofNanos(System.nanoTime() - start), concurrency, latencies, errors);
+	}
+
+	// Builds the request for one execution of the given operation
+	private HttpRequest request(Operation operation, SplittableRandom random) throws IOException {
+		switch (operation) {
+		case LOGIN:
+			return login("/api/auth/login/user", data.usernames()[random.nextInt(data.usernames().length)]);
+		case REGISTER:
+			long index = REGISTERED_INDEX_OFFSET + registered.incrementAndGet();
+			return authorized("/api/contacts/register").POST(json(DataGenerator.contact(index, random))).build();
+		case GET_BY_ID:
+			return authorized("/api/contacts/retrieve/" + randomContactId(random)).GET().build();
+		case LIST:
+			return authorized("/api/contacts/retrieve").GET().build();
+		case UPDATE:
+			int contact = random.nextInt(data.contactIds().length);
+			return authorized("/api/contacts/update/" + data.contactIds()[contact])
+					.PUT(json(DataGenerator.contact(contact, random))).build();
+		case MERGE:
+			return authorized("/api/duplicateContacts/mergeDuplicates").POST(BodyPublishers.noBody()).build();
+		default:
+			throw new IllegalArgumentException("Unknown operation " + operation);
+		}
+	}
+
+	private HttpRequest login(String path, String username) throws IOException {
+		return HttpRequest.newBuilder(baseUri.resolve(path)).header("Content-Type", "application/json")
+				.POST(json(Map.of("username", username, "password", data.password()))).build();
+	}
+
+	private HttpRequest.Builder authorized(String path) {
+		return HttpRequest.newBuilder(baseUri.resolve(path)).header("Authorization", "Bearer " + adminToken)
+				.header("Content-Type", "application/json");
+	}
+
+	private long randomContactId(SplittableRandom random) {
+		return data.contactIds()[random.nextInt(data.contactIds().length)];
+	}
+
+	private HttpRequest.BodyPublisher json(Object body) throws IOException {
+		return BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+	}
+
+	private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+		return httpClient.send(request, BodyHandlers.ofByteArray());
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.example.ContactManagementApiBenchmarks.LoadTest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.example.ContactManagementApi.ContactManagementApiApplication;
+
+/**
+ * Runs an end-to-end load test: boots the application with the loadtest
+ * profile (embedded H2 in MySQL compatibility mode, random port), seeds it with
+ * synthetic data, drives the mixed workload over HTTP through the JWT filter,
+ * controllers, services and JPA, and reports throughput and latency
+ * percentiles per endpoint.
+ * 
+ * Options are Spring properties, see LoadTestProperties. Other arguments are
+ * passed to the application, e.g. --spring.profiles.include=virtual-threads.
+ */
+public class LoadTestHarness {
+
+	public static void main(String[] args) throws Exception {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(ContactManagementApiApplication.class)
+				.profiles("loadtest").run(args);
+		try {
+			LoadTestProperties properties = Binder.get(context.getEnvironment()).bindOrCreate("loadtest",
+					LoadTestProperties.class);
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+			System.out.println("Seeding synthetic data...");
+			SeededData data = new DataGenerator(context, properties.seed()).seed(properties);
+
+			try (HttpClient httpClient = HttpClient.newBuilder()
+					.executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+				LoadGenerator loadGenerator = new LoadGenerator(httpClient, URI.create("http://localhost:" + port),
+						data, properties);
+				loadGenerator.loginAdmin();
+
+				System.out.printf("Warming up for %s...%n", properties.warmup());
+				loadGenerator.run(properties.warmup(), properties.concurrency(), properties.seed());
+
+				System.out.printf("Measuring for %s...%n", properties.duration());
+				LoadTestReport report = loadGenerator.run(properties.duration(), properties.concurrency(),
+						properties.seed());
+				report.print(System.out);
+
+				String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+				Path file = properties.output().resolve("loadtest-" + timestamp + ".json");
+				report.write(file);
+				System.out.printf("%nReport saved to %s%n", file);
+			}
+		} finally {
+			context.close();
+		}
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.example.ContactManagementApiBenchmarks.LoadTest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * The options of a load-test run, bound from the loadtest.* properties, e.g.
+ * --loadtest.duration=60s --loadtest.concurrency=128 --loadtest.mix.merge=0.
+ *
+ * @param warmup            how long to run the workload before measuring
+ * @param duration          how long to measure
+ * @param concurrency       the number of virtual threads sending requests
+ * @param users             the number of seeded users that log in
+ * @param contacts          the number of seeded contacts
+ * @param duplicateContacts the number of seeded duplicate contacts, about half
+ *                          of them duplicates
+ * @param seed              the seed of the synthetic data and the workload
+ * @param mix               the relative weight of each operation; operations
+ *                          not listed are skipped; the defaults apply when
+ *                          empty
+ * @param output            the directory the JSON report is written to
+ */
+record LoadTestProperties(@DefaultValue("10s") Duration warmup, @DefaultValue("30s") Duration duration,
+		@DefaultValue("64") int concurrency, @DefaultValue("100") int users, @DefaultValue("2000") int contacts,
+		@DefaultValue("2000") int duplicateContacts, @DefaultValue("42") long seed, Map<Operation, Integer> mix,
+		@DefaultValue("loadtest-results") Path output) {
+
+	/**
+	 * Returns the weight of the given operation in the workload.
+	 */
+	int weightOf(Operation operation) {
+		if (mix == null || mix.isEmpty()) {
+			return operation.defaultWeight();
+		}
+		return mix.getOrDefault(operation, 0);
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.example.ContactManagementApiBenchmarks.LoadTest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The throughput and latency percentiles of one load-test run, per operation
+ * and for the whole workload.
+ *
+ * @param durationSeconds how long the workload ran
+ * @param concurrency     the number of virtual threads sending requests
+ * @param operations      the statistics of every operation that was sent
+ * @param total           the statistics over all operations
+ */
+record LoadTestReport(double durationSeconds, int concurrency, List<OperationStats> operations,
+		OperationStats total) {
+
+	/**
+	 * The statistics of one operation; latencies are in milliseconds and only
+	 * cover successful requests.
+	 */
+	record OperationStats(String operation, long requests, long errors, double throughput, double p50, double p95,
+			double p99, double max) {
+
+		static OperationStats of(String operation, Histogram latencies, long errors, double seconds) {
+			long requests = latencies.getTotalCount() + errors;
+			return new OperationStats(operation, requests, errors, requests / seconds,
+					millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(95)),
+					millis(latencies.getValueAtPercentile(99)), millis(latencies.getMaxValue()));
+		}
+
+		private static double millis(long nanos) {
+			return nanos / 1_000_000.0;
+		}
+
+	}
+
+	static LoadTestReport of(Duration elapsed, int concurrency, Map<Operation, Histogram> latencies,
+			Map<Operation, LongAdder> errors) {
+		double seconds = elapsed.toNanos() / 1_000_000_000.0;
+		List<OperationStats> operations = new ArrayList<>();
+		Histogram all = new Histogram(3);
+		long allErrors = 0;
+		for (Operation operation : Operation.values()) {
+			Histogram histogram = latencies.get(operation);
+			long operationErrors = errors.get(operation).sum();
+			if (histogram.getTotalCount() + operationErrors > 0) {
+				operations.add(OperationStats.of(operation.label(), histogram, operationErrors, seconds));
+				all.add(histogram);
+				allErrors += operationErrors;
+			}
+		}
+		return new LoadTestReport(seconds, concurrency, operations,
+				OperationStats.of("total", all, allErrors, seconds));
+	}
+
+	/**
+	 * Prints the report as a table.
+	 */
+	void print(PrintStream out) {
+		out.printf("%nLoad test: %d virtual threads for %.1f s%n%n", concurrency, durationSeconds);
+		out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s%n", "operation", "requests", "errors", "req/s", "p50 ms",
+				"p95 ms", "p99 ms", "max ms");
+		for (OperationStats stats : operations) {
+			print(out, stats);
+		}
+		print(out, total);
+	}
+
+	/**
+	 * Writes the report as JSON into the given file.
+	 */
+	void write(Path file) throws IOException {
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+	}
+
+	private static void print(PrintStream out, OperationStats stats) {
+		out.printf("%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n", stats.operation(), stats.requests(),
+				stats.errors(), stats.throughput(), stats.p50(), stats.p95(), stats.p99(), stats.max());
+	}
+
+}
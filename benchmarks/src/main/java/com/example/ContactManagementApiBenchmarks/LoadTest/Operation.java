@@ -0,0 +1,42 @@
+package com.example.ContactManagementApiBenchmarks.LoadTest;
+
+/**
+ * The operations of the mixed workload, each with the share of requests it
+ * receives unless the mix is overridden with loadtest.mix.*.
+ */
+enum Operation {
+
+	// POST /api/auth/login/user as one of the seeded users
+	LOGIN(5),
+
+	// POST /api/contacts/register with a new contact
+	REGISTER(10),
+
+	// GET /api/contacts/retrieve/{id} for a seeded contact
+	GET_BY_ID(50),
+
+	// GET /api/contacts/retrieve
+	LIST(5),
+
+	// PUT /api/contacts/update/{id} for a seeded contact
+	UPDATE(25),
+
+	// POST /api/duplicateContacts/mergeDuplicates
+	MERGE(1);
+
+	private final int defaultWeight;
+
+	Operation(int defaultWeight) {
+		this.defaultWeight = defaultWeight;
+	}
+
+	int defaultWeight() {
+		return defaultWeight;
+	}
+
+	// The name used in reports, e.g. get-by-id
+	String label() {
+		return name().toLowerCase().replace('_', '-');
+	}
+
+}
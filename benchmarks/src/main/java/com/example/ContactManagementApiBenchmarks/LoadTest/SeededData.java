@@ -0,0 +1,12 @@
+package com.example.ContactManagementApiBenchmarks.LoadTest;
+
+/**
+ * What the DataGenerator stored, so the workload can address existing rows.
+ *
+ * @param adminUsername the admin used for the contact endpoints
+ * @param usernames     the users that log in
+ * @param password      the password shared by all seeded users
+ * @param contactIds    the identifier of the contact generated for each index
+ */
+record SeededData(String adminUsername, String[] usernames, String password, long[] contactIds) {
+}
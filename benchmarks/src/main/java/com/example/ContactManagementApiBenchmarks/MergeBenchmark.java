@@ -0,0 +1,88 @@
+package com.example.ContactManagementApiBenchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.example.ContactManagementApi.Entity.ContactWithDuplicates;
+import com.example.ContactManagementApi.Enum.ChangeType;
+import com.example.ContactManagementApi.Outbox.ChangeOutbox;
+import com.example.ContactManagementApi.Repository.ContactWithDuplicatesRepository;
+import com.example.ContactManagementApi.Service.ContactWithDuplicatesService;
+import com.example.ContactManagementApi.Service.ResponseCache;
+
+/**
+ * Measures the in-memory part of ContactWithDuplicatesService's merge for a
+ * growing number of rows.
+ * 
+ * The repository is replaced by a stub that returns a prepared list and ignores
+ * writes, and the response cache and the change outbox by no-ops, so the
+ * benchmark isolates the duplicate detection from the database.
+ * The largest data sets need a large heap, which the fork requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Xms6g", "-Xmx6g" })
+public class MergeBenchmark {
+
+	@Param({ "10000", "100000", "1000000", "10000000" })
+	private int rows;
+
+	private ContactWithDuplicatesService service;
+
+	@Setup
+	public void setUp() {
+		List<ContactWithDuplicates> contacts = Fixtures.contactsWithDuplicates(rows);
+		service = new ContactWithDuplicatesService();
+		ReflectionTestUtils.setField(service, "contactWithDuplicatesRepository", repositoryOf(contacts));
+		ReflectionTestUtils.setField(service, "responseCache", new ResponseCache() {
+			@Override
+			public void invalidate(Region region) {
+			}
+		});
+		ReflectionTestUtils.setField(service, "changeOutbox", new ChangeOutbox() {
+			@Override
+			public void record(String source, ChangeType type, Long contactId, Object payload) {
+			}
+		});
+	}
+
+	@Benchmark
+	public String mergeDuplicateContacts() {
+		return service.mergeDuplicateContacts();
+	}
+
+	// Creates a repository stub backed by the given contacts
+	private static ContactWithDuplicatesRepository repositoryOf(List<ContactWithDuplicates> contacts) {
+		return (ContactWithDuplicatesRepository) Proxy.newProxyInstance(MergeBenchmark.class.getClassLoader(),
+				new Class<?>[] { ContactWithDuplicatesRepository.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "findAll":
+						return contacts;
+					case "saveAll":
+						return Collections.emptyList();
+					case "deleteAllById":
+					case "deleteAllByIdInBatch":
+						return null;
+					default:
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+
+}
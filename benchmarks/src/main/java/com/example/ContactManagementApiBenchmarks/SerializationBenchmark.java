@@ -0,0 +1,71 @@
+package com.example.ContactManagementApiBenchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.response.ContactResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Measures JSON serialization of contact lists, as returned by the list
+ * endpoints, using an ObjectMapper configured the way Spring Boot builds it.
+ * 
+ * The payload parameter compares serializing the entities with the default
+ * mapper (entity), the ContactResponse records with the default mapper (record)
+ * and the records with Blackbird registered, as the application does
+ * (record-blackbird). Run with -prof gc to compare gc.alloc.rate.norm, the
+ * bytes allocated per serialized list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	private int size;
+
+	@Param({ "entity", "record", "record-blackbird" })
+	private String payload;
+
+	private ObjectMapper objectMapper;
+
+	private List<?> contacts;
+
+	@Setup
+	public void setUp() {
+		Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+		if (payload.equals("record-blackbird")) {
+			builder.modulesToInstall(new BlackbirdModule());
+		}
+		objectMapper = builder.build();
+		List<Contact> entities = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			entities.add(Fixtures.contact(i));
+		}
+		contacts = payload.equals("entity") ? entities : entities.stream().map(ContactResponse::from).toList();
+	}
+
+	@Benchmark
+	public byte[] writeContacts() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(contacts);
+	}
+
+}
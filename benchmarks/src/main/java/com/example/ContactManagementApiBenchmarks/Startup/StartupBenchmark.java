@@ -0,0 +1,188 @@
+package com.example.ContactManagementApiBenchmarks.Startup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import org.h2.tools.Server;
+
+/**
+ * Measures the time from launching the application to its first successful
+ * POST /api/auth/login/user, the moment a new instance can serve traffic.
+ * 
+ * The application is started from the jar extracted by the fast-startup Maven
+ * profile, once per run and mode:
+ * <ul>
+ * <li>default: the regular startup</li>
+ * <li>fast-startup: the fast-startup Spring profile (lazy beans, no migrations
+ * or schema validation)</li>
+ * <li>aot-cds: the fast-startup profile with the AOT-processed context and the
+ * CDS archive</li>
+ * </ul>
+ * All runs use one H2 database in MySQL compatibility mode served over TCP by
+ * this process, so no MySQL server is needed. A first, unmeasured run applies
+ * the migrations and registers the user that logs in.
+ * 
+ * Options: --jar=PATH (the extracted application jar), --driver-jar=PATH (the
+ * H2 driver put on the application's class path), --runs=N.
+ */
+public class StartupBenchmark {
+
+	private static final String USERNAME = "startup-benchmark";
+
+	private static final String PASSWORD = "startup-password";
+
+	private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+	private final Path jar;
+
+	private final Path driverJar;
+
+	private final String mainClass;
+
+	private final String databaseUrl;
+
+	private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+	private final Path logDirectory = Path.of("startup-logs");
+
+	StartupBenchmark(Path jar, Path driverJar, String databaseUrl) throws IOException {
+		this.jar = jar;
+		this.driverJar = driverJar;
+		this.databaseUrl = databaseUrl;
+		try (JarFile jarFile = new JarFile(jar.toFile())) {
+			this.mainClass = jarFile.getManifest().getMainAttributes().getValue("Main-Class");
+		}
+		Files.createDirectories(logDirectory);
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			String[] option = arg.replaceFirst("^--", "").split("=", 2);
+			options.put(option[0], option.length > 1 ? option[1] : "");
+		}
+		Path jar = Path.of(options.getOrDefault("jar", "../target/extracted/ContactManagementApi-0.0.1-SNAPSHOT.jar"))
+				.toAbsolutePath();
+		Path driverJar = Path.of(options.getOrDefault("driver-jar", "target/lib/h2.jar")).toAbsolutePath();
+		int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+		if (!Files.exists(jar)) {
+			throw new IllegalArgumentException(jar + " does not exist; build it with mvn -P fast-startup package");
+		}
+
+		Server database = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+		try {
+			String databaseUrl = "jdbc:h2:tcp://localhost:" + database.getPort()
+					+ "/mem:startup;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+			new StartupBenchmark(jar, driverJar, databaseUrl).run(runs);
+		} finally {
+			database.stop();
+		}
+	}
+
+	// Runs the modes in turn, so drift affects all of them alike
+	private void run(int runs) throws Exception {
+		Map<String, List<String>> modes = new LinkedHashMap<>();
+		modes.put("default", List.of());
+		modes.put("fast-startup", List.of("-Dspring.profiles.active=fast-startup"));
+		Path archive = jar.resolveSibling("application.jsa");
+		if (Files.exists(archive)) {
+			modes.put("aot-cds", List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true",
+					"-Dspring.profiles.active=fast-startup"));
+		} else {
+			System.out.println("No CDS archive at " + archive + ", skipping the aot-cds mode");
+		}
+
+		System.out.println("Preparing the database...");
+		start("setup", List.of(), true);
+
+		Map<String, long[]> results = new LinkedHashMap<>();
+		modes.keySet().forEach(mode -> results.put(mode, new long[runs]));
+		for (int run = 0; run < runs; run++) {
+			for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+				long millis = start(mode.getKey() + "-" + run, mode.getValue(), false);
+				results.get(mode.getKey())[run] = millis;
+				System.out.printf("%-13s run %d: %5d ms%n", mode.getKey(), run + 1, millis);
+			}
+		}
+
+		System.out.printf("%nTime to first successful login over %d runs%n%n", runs);
+		System.out.printf("%-13s %8s %8s %8s%n", "mode", "min ms", "median", "max ms");
+		results.forEach((mode, millis) -> {
+			Arrays.sort(millis);
+			System.out.printf("%-13s %8d %8d %8d%n", mode, millis[0], millis[millis.length / 2],
+					millis[millis.length - 1]);
+		});
+	}
+
+	// Starts the application and returns the milliseconds until a login succeeds
+	private long start(String name, List<String> jvmArguments, boolean setup) throws Exception {
+		int port = freePort();
+		List<String> command = new ArrayList<>();
+		command.add(ProcessHandle.current().info().command().orElse("java"));
+		command.addAll(jvmArguments);
+		command.addAll(List.of("-cp", jar + File.pathSeparator + driverJar, mainClass, "--server.port=" + port,
+				"--spring.datasource.url=" + databaseUrl, "--spring.datasource.username=sa",
+				"--spring.datasource.password=", "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"));
+		ProcessBuilder processBuilder = new ProcessBuilder(command).directory(jar.getParent().toFile())
+				.redirectErrorStream(true).redirectOutput(logDirectory.resolve(name + ".log").toFile());
+
+		long start = System.nanoTime();
+		Process process = processBuilder.start();
+		try {
+			URI baseUri = URI.create("http://localhost:" + port);
+			boolean registered = !setup;
+			while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+				if (!process.isAlive()) {
+					throw new IllegalStateException(name + " exited, see " + logDirectory.resolve(name + ".log"));
+				}
+				try {
+					if (!registered) {
+						// Registers the user; 400 means it exists from an earlier benchmark
+						int status = post(baseUri.resolve("/api/auth/signup/user")).statusCode();
+						registered = status == 200 || status == 400;
+					}
+					if (registered && post(baseUri.resolve("/api/auth/login/user")).statusCode() == 200) {
+						return (System.nanoTime() - start) / 1_000_000;
+					}
+				} catch (IOException e) {
+					// Not listening yet
+				}
+				Thread.sleep(5);
+			}
+			throw new IllegalStateException(name + " did not accept a login within " + STARTUP_TIMEOUT);
+		} finally {
+			process.destroy();
+			process.waitFor();
+		}
+	}
+
+	private HttpResponse<Void> post(URI uri) throws IOException, InterruptedException {
+		String credentials = "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}";
+		HttpRequest request = HttpRequest.newBuilder(uri).header("Content-Type", "application/json")
+				.POST(BodyPublishers.ofString(credentials)).build();
+		return httpClient.send(request, BodyHandlers.discarding());
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.example.ContactManagementApiBenchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.ContactManagementApi.ContactManagementApiApplication;
+import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.Repository.ContactRepository;
+import com.sun.management.OperatingSystemMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Measures a contact update, a lookup followed by a save, with the transaction
+ * boundaries before and after they were moved to the service methods.
+ *
+ * Before, every repository call ran in its own transaction on connections
+ * handed out with auto-commit enabled; after, the lookup and the save share one
+ * transaction and Hibernate is told that auto-commit is already disabled. Both
+ * modes do the same work, so the outbox row the service now also writes is
+ * left out. The application runs with the loadtest profile on H2.
+ *
+ * Besides the time per update, the connection checkouts (from the
+ * hikaricp.connections.usage timer) and the process CPU time per update over
+ * the measurement iterations are printed when each fork ends. The whole
+ * request path has to be compiled first, hence the long warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBoundaryBenchmark {
+
+	private static final int CONTACTS = 100;
+
+	@Param({ "before", "after" })
+	private String boundaries;
+
+	private ConfigurableApplicationContext context;
+
+	private ContactRepository contactRepository;
+
+	private TransactionTemplate transactionTemplate;
+
+	private Timer connectionUsage;
+
+	private OperatingSystemMXBean operatingSystem;
+
+	private List<Long> contactIds;
+
+	private int next;
+
+	private boolean measuring;
+
+	private long updates;
+
+	private long checkoutsAtStart;
+
+	private long cpuTimeAtStart;
+
+	private long checkouts;
+
+	private long cpuTime;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		List<String> args = new ArrayList<>();
+		if (boundaries.equals("before")) {
+			args.add("--spring.datasource.hikari.auto-commit=true");
+			args.add("--spring.jpa.properties.hibernate.connection.provider_disables_autocommit=false");
+		}
+		context = new SpringApplicationBuilder(ContactManagementApiApplication.class).profiles("loadtest")
+				.run(args.toArray(String[]::new));
+		contactRepository = context.getBean(ContactRepository.class);
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		connectionUsage = context.getBean(MeterRegistry.class).get("hikaricp.connections.usage").timer();
+		operatingSystem = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+
+		List<Contact> contacts = new ArrayList<>(CONTACTS);
+		for (int i = 0; i < CONTACTS; i++) {
+			Contact contact = Fixtures.contact(i);
+			contact.setId(null);
+			contacts.add(contact);
+		}
+		contactIds = contactRepository.saveAll(contacts).stream().map(Contact::getId).toList();
+	}
+
+	@Setup(Level.Iteration)
+	public void startIteration(IterationParams iterationParams) {
+		measuring = iterationParams.getType() == IterationType.MEASUREMENT;
+		checkoutsAtStart = connectionUsage.count();
+		cpuTimeAtStart = operatingSystem.getProcessCpuTime();
+	}
+
+	@TearDown(Level.Iteration)
+	public void endIteration() {
+		if (measuring) {
+			checkouts += connectionUsage.count() - checkoutsAtStart;
+			cpuTime += operatingSystem.getProcessCpuTime() - cpuTimeAtStart;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		System.out.printf("%n%s: %.2f connection checkouts and %.1f us CPU per update (%d updates)%n", boundaries,
+				(double) checkouts / updates, cpuTime / 1000.0 / updates, updates);
+		context.close();
+	}
+
+	@Benchmark
+	public Contact update() {
+		Long id = contactIds.get(next++ % CONTACTS);
+		if (measuring) {
+			updates++;
+		}
+		if (boundaries.equals("before")) {
+			return rename(contactRepository, id);
+		}
+		return transactionTemplate.execute(status -> rename(contactRepository, id));
+	}
+
+	// Alternates the first name, so every save writes a row
+	private static Contact rename(ContactRepository contactRepository, Long id) {
+		Contact contact = contactRepository.findById(id).orElseThrow();
+		contact.setFirstName(contact.getFirstName().equals("Ada") ? "Grace" : "Ada");
+		return contactRepository.save(contact);
+	}
+
+}
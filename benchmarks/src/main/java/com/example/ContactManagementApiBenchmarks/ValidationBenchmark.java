@@ -0,0 +1,70 @@
+package com.example.ContactManagementApiBenchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.example.ContactManagementApi.Entity.Contact;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Measures Bean Validation of a Contact, as run on every register and update
+ * request, for a valid contact and for one that violates every constraint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private Contact validContact;
+
+	private Contact invalidContact;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+		validContact = Fixtures.contact(0);
+		invalidContact = new Contact();
+		invalidContact.setFirstName("J0hn");
+		invalidContact.setLastName("D0e");
+		invalidContact.setEmail("not-an-email");
+		invalidContact.setPhoneNumber("12345");
+		invalidContact.setAddress("#1 Main Street!");
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Contact>> validContact() {
+		return validator.validate(validContact);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Contact>> invalidContact() {
+		return validator.validate(invalidContact);
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.example.ContactManagementApiReactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * The entry point for the reactive variant of the Contact Management API.
+ * 
+ * This application exposes the /api/contacts endpoints on WebFlux and R2DBC
+ * against the same database as the JPA application, so a small, fixed number
+ * of event-loop threads can serve many concurrent connections.
+ */
+@SpringBootApplication
+public class ContactManagementApiReactiveApplication {
+
+	/**
+	 * The main method which serves as the entry point for the Spring Boot
+	 * application.
+	 */
+	public static void main(String[] args) {
+		SpringApplication.run(ContactManagementApiReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.example.ContactManagementApiReactive.Entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * The Contact class represents a row of the contact table for the reactive
+ * API. It is mapped by Spring Data R2DBC and carries the same validation rules
+ * as the JPA Contact entity.
+ */
+@Table("contact")
+public class Contact {
+
+	/**
+	 * The unique identifier for each contact, generated by the database.
+	 */
+	@Id
+	private Long id;
+
+	/**
+	 * The first name of the contact. This field is mandatory and must contain only
+	 * alphabetic characters.
+	 */
+	@NotBlank(message = "First name is required")
+	@Pattern(regexp = "^[A-Za-z]+$", message = "First name must contain only alphabetic characters")
+	private String firstName;
+
+	/**
+	 * The last name of the contact. This field is mandatory and must contain only
+	 * alphabetic characters.
+	 */
+	@NotBlank(message = "Last name is required")
+	@Pattern(regexp = "^[A-Za-z]+$", message = "Last name must contain only alphabetic characters")
+	private String lastName;
+
+	/**
+	 * The email address of the contact. This field is mandatory, must be in a valid
+	 * email format and is unique in the database.
+	 */
+	@NotBlank(message = "Email is required")
+	@Pattern(regexp = "^[A-Za-z0-9._%+-]+@[A-Za-z]+\\.[A-Za-z]{2,}$", message = "Email format is invalid")
+	private String email;
+
+	/**
+	 * The phone number of the contact. This field is mandatory, must start with a
+	 * plus sign and country code and is unique in the database.
+	 */
+	@NotBlank(message = "Phone number is required")
+	@Pattern(regexp = "^\\+[0-9]{2}[0-9]{10}$", message = "Invalid phone number format. It should start with + and countrycode")
+	private String phoneNumber;
+
+	/**
+	 * The address of the contact. This field is optional but if provided, it must
+	 * follow a valid format.
+	 */
+	@Pattern(regexp = "^[A-Za-z0-9\\s,]*$", message = "Invalid address format")
+	private String address;
+
+	// Getters and Setters
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public void setLastName(String lastName) {
+		this.lastName = lastName;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getPhoneNumber() {
+		return phoneNumber;
+	}
+
+	public void setPhoneNumber(String phoneNumber) {
+		this.phoneNumber = phoneNumber;
+	}
+
+	public String getAddress() {
+		return address;
+	}
+
+	public void setAddress(String address) {
+		this.address = address;
+	}
+
+}
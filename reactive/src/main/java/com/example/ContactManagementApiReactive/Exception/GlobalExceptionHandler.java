@@ -0,0 +1,64 @@
+package com.example.ContactManagementApiReactive.Exception;
+
+import java.util.List;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+/**
+ * A global exception handler for the reactive application.
+ * 
+ * It maps exceptions to the same responses as the servlet application's
+ * GlobalExceptionHandler, so clients see identical error payloads.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+	/**
+	 * Handles the exceptions thrown for expected outcomes, such as a missing
+	 * contact, with the status they carry.
+	 */
+	@ExceptionHandler(ApiException.class)
+	public ProblemDetail handleApiException(ApiException exception) {
+		ProblemDetail errorDetail = ProblemDetail.forStatusAndDetail(exception.getStatus(), exception.getMessage());
+		errorDetail.setProperty("description", exception.getDescription());
+		return errorDetail;
+	}
+
+	/**
+	 * Handles access denied errors raised by method security.
+	 */
+	@ExceptionHandler(AccessDeniedException.class)
+	public ProblemDetail handleAccessDenied(AccessDeniedException exception) {
+		ProblemDetail errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(403),
+				exception.getMessage());
+		errorDetail.setProperty("description", "You are not authorized to access this resource");
+		return errorDetail;
+	}
+
+	/**
+	 * Handles validation exceptions thrown when request body validation fails.
+	 */
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<List<String>> handleValidationExceptions(WebExchangeBindException ex) {
+		List<String> errors = ex.getBindingResult().getFieldErrors().stream()
+				.map(error -> error.getField() + ": " + error.getDefaultMessage()).toList();
+		return ResponseEntity.badRequest().body(errors);
+	}
+
+	/**
+	 * Handles all other exceptions as unknown internal server errors.
+	 */
+	@ExceptionHandler(Exception.class)
+	public ProblemDetail handleException(Exception exception) {
+		ProblemDetail errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(500),
+				exception.getMessage());
+		errorDetail.setProperty("description", "Unknown internal server error.");
+		return errorDetail;
+	}
+
+}
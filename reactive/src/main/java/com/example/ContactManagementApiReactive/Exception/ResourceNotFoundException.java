@@ -0,0 +1,17 @@
+package com.example.ContactManagementApiReactive.Exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when the resource a request refers to by its ID does not exist;
+ * answered with 404 Not Found.
+ */
+public class ResourceNotFoundException extends ApiException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ResourceNotFoundException(String resource, Object id) {
+		super(HttpStatus.NOT_FOUND, "The requested resource does not exist", resource + " " + id + " not found");
+	}
+
+}
@@ -0,0 +1,14 @@
+package com.example.ContactManagementApiReactive.Repository;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import com.example.ContactManagementApiReactive.Entity.Contact;
+
+/**
+ * The ContactRepository interface provides non-blocking CRUD operations on the
+ * contact table. It extends R2dbcRepository to leverage its built-in methods.
+ */
+@Repository
+public interface ContactRepository extends R2dbcRepository<Contact, Long> {
+
+}
@@ -0,0 +1,47 @@
+package com.example.ContactManagementApiReactive.Security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Configuration class for setting up security-related beans of the reactive
+ * API.
+ * 
+ * Users and roles are read from the tables maintained by the JPA application
+ * with a single query per lookup.
+ */
+@Configuration
+public class ApplicationConfiguration {
+
+	// Loads a user together with the names of all of their roles
+	private static final String USER_WITH_ROLES_QUERY = "select u.username, u.password, r.name from user u "
+			+ "join user_roles ur on ur.user_id = u.id join role r on r.id = ur.role_id where u.username = :username";
+
+	/**
+	 * Configures a ReactiveUserDetailsService bean that retrieves user details from
+	 * the database by username.
+	 */
+	@Bean
+	ReactiveUserDetailsService userDetailsService(DatabaseClient databaseClient) {
+		return username -> databaseClient.sql(USER_WITH_ROLES_QUERY).bind("username", username)
+				.map((row, metadata) -> new String[] { row.get(0, String.class), row.get(1, String.class),
+						row.get(2, String.class) })
+				.all().collectList().flatMap(rows -> {
+					// Signal an error if the user does not exist
+					if (rows.isEmpty()) {
+						return Mono.error(new UsernameNotFoundException("User not found"));
+					}
+					String[] first = rows.get(0);
+					UserDetails userDetails = User.withUsername(first[0]).password(first[1])
+							.authorities(rows.stream().map(row -> row[2]).toArray(String[]::new)).build();
+					return Mono.just(userDetails);
+				});
+	}
+
+}
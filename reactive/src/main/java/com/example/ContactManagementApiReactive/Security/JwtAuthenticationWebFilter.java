@@ -0,0 +1,70 @@
+package com.example.ContactManagementApiReactive.Security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Reactive port of the JWT authentication filter.
+ * 
+ * This filter checks each exchange for a Bearer token in the Authorization
+ * header. If a valid token is found, the user is loaded without blocking and
+ * the authentication is written to the reactive security context.
+ */
+@Component
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+	// Injects Utility class for JWT operations
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	// Injects Service to load user details
+	@Autowired
+	private ReactiveUserDetailsService userDetailsService;
+
+	/**
+	 * Authenticates the exchange from its Bearer token, if present, and continues
+	 * the filter chain. Invalid or expired tokens are rejected with 403, matching
+	 * the servlet application.
+	 */
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		final String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+		// Check if the Authorization header is present and starts with "Bearer "
+		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+			return chain.filter(exchange); // Proceed without authentication
+		}
+
+		// Parse and verify the token; signature or expiry failures end the exchange
+		final Claims claims;
+		try {
+			claims = jwtUtils.parseClaims(authHeader.substring(7));
+		} catch (JwtException e) {
+			exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+			return exchange.getResponse().setComplete();
+		}
+
+		// Load the user and, if the token is valid for them, authenticate the exchange.
+		// The chain runs exactly once, with or without the authentication, as it
+		// completes empty itself.
+		return userDetailsService.findByUsername(claims.getSubject())
+				.filter(userDetails -> jwtUtils.isTokenValid(claims, userDetails))
+				.map(userDetails -> ReactiveSecurityContextHolder.withAuthentication(
+						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())))
+				.defaultIfEmpty(Context.empty())
+				.flatMap(context -> chain.filter(exchange).contextWrite(context));
+	}
+
+}
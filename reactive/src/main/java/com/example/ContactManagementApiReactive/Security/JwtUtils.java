@@ -0,0 +1,46 @@
+package com.example.ContactManagementApiReactive.Security;
+
+import java.security.Key;
+import java.util.Date;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Utility class for verifying JWTs issued by the Contact Management API.
+ * 
+ * Tokens are signed by the JPA application; this service only parses them and
+ * checks their subject and expiration. The signing key and parser are built
+ * once, since parsing runs on the event loop for every request.
+ */
+@Component
+public class JwtUtils {
+
+	// The parser configured with the shared signing key
+	private final JwtParser jwtParser;
+
+	public JwtUtils(@Value("${security.jwt.secret-key}") String secretKey) {
+		Key signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)); // Decode the base64 secret key
+		this.jwtParser = Jwts.parserBuilder().setSigningKey(signKey).build();
+	}
+
+	/**
+	 * Parses the given token, verifying its signature, and returns its claims.
+	 */
+	public Claims parseClaims(String token) {
+		return jwtParser.parseClaimsJws(token).getBody();
+	}
+
+	/**
+	 * Validates the parsed claims by checking the username and expiration status.
+	 */
+	public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+		return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
+	}
+
+}
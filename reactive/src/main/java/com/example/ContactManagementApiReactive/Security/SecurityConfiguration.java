@@ -0,0 +1,41 @@
+package com.example.ContactManagementApiReactive.Security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * SecurityConfiguration class is responsible for configuring the security of
+ * the reactive API. Sessions are stateless and every request is authenticated
+ * by the JWT web filter.
+ */
+@Configuration
+@EnableWebFluxSecurity // Enables Spring Security's WebFlux support.
+@EnableReactiveMethodSecurity // Enables @PreAuthorize on reactive methods.
+public class SecurityConfiguration {
+
+	// Injects Custom filter for handling JWT authentication.
+	@Autowired
+	private JwtAuthenticationWebFilter jwtAuthenticationWebFilter;
+
+	/**
+	 * Configures the security filter chain for the reactive application.
+	 */
+	@Bean
+	public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+		return http.cors(cors -> cors.disable()) // Disable CORS protection.
+				.csrf(csrf -> csrf.disable()) // Disable CSRF protection.
+				.httpBasic(httpBasic -> httpBasic.disable()).formLogin(formLogin -> formLogin.disable())
+				.securityContextRepository(NoOpServerSecurityContextRepository.getInstance()) // Stateless.
+				.authorizeExchange(exchanges -> exchanges.anyExchange().authenticated())
+				.addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION) // Add JWT filter.
+				.build(); // Build and return the security filter chain.
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.example.ContactManagementApiReactive.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import com.example.ContactManagementApiReactive.Entity.Contact;
+import com.example.ContactManagementApiReactive.Exception.ResourceNotFoundException;
+import com.example.ContactManagementApiReactive.Repository.ContactRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ContactService provides the business logic for managing contacts in the
+ * reactive API. It mirrors the JPA ContactService, returning Mono and Flux
+ * publishers instead of blocking on the database.
+ */
+@Service
+public class ContactService {
+
+	// Automatically injects the reactive ContactRepository bean
+	@Autowired
+	private ContactRepository contactRepository;
+
+	// Method to create a new contact in the repository
+	public Mono<Contact> createContact(Contact contact) {
+		contact.setId(null); // Always insert a new row
+		return contactRepository.save(contact);
+	}
+
+	// Method to stream all contacts from the repository
+	public Flux<Contact> getAllContacts() {
+		return contactRepository.findAll();
+	}
+
+	// Method to retrieve a specific contact by its ID
+	public Mono<Contact> getContactById(Long id) {
+		return contactRepository.findById(id);
+	}
+
+	// Method to update an existing contact's details
+	public Mono<Contact> updateContact(Long id, Contact contactDetails) {
+		// Finds the contact by ID; signals an error if not found
+		return contactRepository.findById(id).switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Contact", id)))
+				.flatMap(contact -> {
+					// Updates the contact's fields with new values from the provided contactDetails object
+					contact.setFirstName(contactDetails.getFirstName());
+					contact.setLastName(contactDetails.getLastName());
+					contact.setEmail(contactDetails.getEmail());
+					contact.setPhoneNumber(contactDetails.getPhoneNumber());
+					contact.setAddress(contactDetails.getAddress());
+
+					// Saves the updated contact back to the repository
+					return contactRepository.save(contact);
+				});
+	}
+
+	// Method to delete a contact by its ID
+	public Mono<Void> deleteContact(Long id) {
+		return contactRepository.deleteById(id);
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.example.ContactManagementApiReactive.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.example.ContactManagementApiReactive.Entity.Contact;
+import com.example.ContactManagementApiReactive.Exception.ResourceNotFoundException;
+import com.example.ContactManagementApiReactive.Service.ContactService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The ContactController class exposes the /api/contacts endpoints of the
+ * reactive API with the same paths, roles and responses as the servlet
+ * ContactController.
+ * 
+ * List responses are streamed from the database as they are read, either as a
+ * JSON array or as newline-delimited JSON.
+ * 
+ * Base path for all endpoints in this controller is /api/contacts.
+ */
+@RestController
+@RequestMapping("/api/contacts")
+public class ContactController {
+
+	// Injects the ContactService to handle business logic for contacts.
+	@Autowired
+	private ContactService contactService;
+
+	/**
+	 * Registers a new contact in the system. Accessible by users with either
+	 * 'ADMIN' or 'USER' roles.
+	 */
+	@PostMapping("/register")
+	@PreAuthorize("hasAnyRole('ADMIN', 'USER')") // Allows both 'ADMIN' and 'USER' roles to create contacts.
+	public Mono<Contact> createContact(@Validated @RequestBody Contact contact) {
+		return contactService.createContact(contact);
+	}
+
+	/**
+	 * Streams all contacts. Only accessible by users with the 'ADMIN' role.
+	 * Clients sending Accept: application/x-ndjson receive one contact per line.
+	 */
+	@GetMapping(value = "/retrieve", produces = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_NDJSON_VALUE })
+	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
+	public Flux<Contact> getAllContacts() {
+		return contactService.getAllContacts();
+	}
+
+	/**
+	 * Streams all contacts as newline-delimited JSON for bulk export. Only
+	 * accessible by users with the 'ADMIN' role.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
+	public Flux<Contact> exportContacts() {
+		return contactService.getAllContacts();
+	}
+
+	/**
+	 * Retrieves a specific contact by its ID. Only accessible by users with the
+	 * 'ADMIN' role.
+	 */
+	@GetMapping("/retrieve/{id}")
+	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
+	public Mono<Contact> getContactById(@PathVariable Long id) {
+		// Answers 404 if the contact is not found, as the servlet API does.
+		return contactService.getContactById(id)
+				.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Contact", id)));
+	}
+
+	/**
+	 * Updates an existing contact by its ID. Only accessible by users with the
+	 * 'ADMIN' role.
+	 */
+	@PutMapping("/update/{id}")
+	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
+	public Mono<Contact> updateContact(@PathVariable Long id, @Validated @RequestBody Contact contact) {
+		return contactService.updateContact(id, contact);
+	}
+
+	/**
+	 * Deletes a contact by its ID. Only accessible by users with the 'ADMIN' role.
+	 */
+	@DeleteMapping("/delete/{id}")
+	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
+	public Mono<ResponseEntity<Void>> deleteContact(@PathVariable Long id) {
+		// Returns a 204 No Content response on successful deletion.
+		return contactService.deleteContact(id).then(Mono.just(ResponseEntity.noContent().<Void>build()));
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.example.ContactManagementApiReactive.controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ContactControllerTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Value("${security.jwt.secret-key}")
+	private String secretKey;
+
+	@Test
+	void listIsStreamedAsAJsonArray() {
+		webTestClient.get().uri("/api/contacts/retrieve").accept(MediaType.APPLICATION_JSON)
+				.headers(headers -> headers.setBearerAuth(token("reactive-admin", Duration.ofHours(1))))
+				.exchange().expectStatus().isOk().expectHeader().contentType(MediaType.APPLICATION_JSON)
+				.expectBody().jsonPath("$[0].email").isEqualTo("ada@example.com").jsonPath("$[1].email")
+				.isEqualTo("alan@example.com");
+	}
+
+	@Test
+	void listIsStreamedAsNdjsonOnRequest() {
+		String body = webTestClient.get().uri("/api/contacts/retrieve").accept(MediaType.APPLICATION_NDJSON)
+				.headers(headers -> headers.setBearerAuth(token("reactive-admin", Duration.ofHours(1))))
+				.exchange().expectStatus().isOk().expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		assertNdjsonContacts(body);
+	}
+
+	@Test
+	void exportIsAlwaysNdjson() {
+		String body = webTestClient.get().uri("/api/contacts/export")
+				.headers(headers -> headers.setBearerAuth(token("reactive-admin", Duration.ofHours(1))))
+				.exchange().expectStatus().isOk().expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		assertNdjsonContacts(body);
+	}
+
+	@Test
+	void rolesAreLoadedWithTheUser() {
+		// The user holds ROLE_USER only, so it may register but not list
+		String token = token("reactive-user", Duration.ofHours(1));
+		webTestClient.get().uri("/api/contacts/retrieve").headers(headers -> headers.setBearerAuth(token))
+				.exchange().expectStatus().isForbidden();
+		webTestClient.post().uri("/api/contacts/register").headers(headers -> headers.setBearerAuth(token))
+				.bodyValue(new Contact("Grace", "Hopper", "grace@example.com", "+919800000003")).exchange()
+				.expectStatus().isOk().expectBody().jsonPath("$.id").isNotEmpty();
+	}
+
+	@Test
+	void missingContactIsNotFound() {
+		String token = token("reactive-admin", Duration.ofHours(1));
+		webTestClient.get().uri("/api/contacts/retrieve/999").headers(headers -> headers.setBearerAuth(token))
+				.exchange().expectStatus().isNotFound().expectBody().jsonPath("$.detail")
+				.isEqualTo("Contact 999 not found").jsonPath("$.description")
+				.isEqualTo("The requested resource does not exist");
+		webTestClient.put().uri("/api/contacts/update/999").headers(headers -> headers.setBearerAuth(token))
+				.bodyValue(new Contact("Grace", "Hopper", "grace.hopper@example.com", "+919800000004")).exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void tokenWithAnInvalidSignatureIsForbidden() {
+		Key otherKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+		String token = Jwts.builder().setSubject("reactive-admin")
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000)).signWith(otherKey).compact();
+
+		webTestClient.get().uri("/api/contacts/retrieve").headers(headers -> headers.setBearerAuth(token))
+				.exchange().expectStatus().isEqualTo(HttpStatus.FORBIDDEN);
+	}
+
+	@Test
+	void expiredTokenIsForbidden() {
+		webTestClient.get().uri("/api/contacts/retrieve")
+				.headers(headers -> headers.setBearerAuth(token("reactive-admin", Duration.ofMinutes(-1))))
+				.exchange().expectStatus().isEqualTo(HttpStatus.FORBIDDEN);
+	}
+
+	// Checks that the body starts with the seeded contacts, one JSON object per
+	// line; other tests may have registered more
+	private static void assertNdjsonContacts(String body) {
+		List<String> lines = body.lines().toList();
+		assertTrue(lines.size() >= 2);
+		assertTrue(lines.get(0).startsWith("{") && lines.get(0).contains("ada@example.com"));
+		assertTrue(lines.get(1).startsWith("{") && lines.get(1).contains("alan@example.com"));
+	}
+
+	// Signs a token for the user like the JPA application, valid for the given time
+	private String token(String username, Duration validFor) {
+		Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+		return Jwts.builder().setSubject(username).setIssuedAt(new Date())
+				.setExpiration(new Date(System.currentTimeMillis() + validFor.toMillis()))
+				.signWith(key, SignatureAlgorithm.HS256).compact();
+	}
+
+	private record Contact(String firstName, String lastName, String email, String phoneNumber) {
+	}
+
+}
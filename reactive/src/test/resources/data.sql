@@ -0,0 +1,11 @@
+-- An admin holding both roles, a user holding only ROLE_USER, and two contacts.
+
+insert into role (id, name) values (1, 'ROLE_USER'), (2, 'ROLE_ADMIN');
+
+insert into user (id, username, password) values (1, 'reactive-admin', 'unused'), (2, 'reactive-user', 'unused');
+
+insert into user_roles (user_id, role_id) values (1, 1), (1, 2), (2, 1);
+
+insert into contact (first_name, last_name, email, phone_number) values
+    ('Ada', 'Lovelace', 'ada@example.com', '+919800000001'),
+    ('Alan', 'Turing', 'alan@example.com', '+919800000002');
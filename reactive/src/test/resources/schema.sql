@@ -0,0 +1,37 @@
+-- The tables the reactive API reads, as created by the JPA application's
+-- Flyway migrations.
+
+create table role (
+    id bigint not null auto_increment,
+    name enum ('ROLE_USER', 'ROLE_ADMIN'),
+    primary key (id)
+);
+
+create table user (
+    id bigint not null auto_increment,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+);
+
+create table user_roles (
+    user_id bigint not null,
+    role_id bigint not null,
+    primary key (user_id, role_id),
+    constraint fk_user_roles_user foreign key (user_id) references user (id),
+    constraint fk_user_roles_role foreign key (role_id) references role (id)
+);
+
+create table contact (
+    id bigint not null auto_increment,
+    first_name varchar(255),
+    last_name varchar(255),
+    email varchar(255),
+    phone_number varchar(255),
+    address varchar(255),
+    primary key (id),
+    constraint uk_contact_email unique (email),
+    constraint uk_contact_phone_number unique (phone_number)
+);
@@ -0,0 +1,39 @@
+package com.example.ContactManagementApi.Config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Configuration class for the binary encodings of request and response bodies.
+ * 
+ * Clients that send Accept: application/cbor or application/x-jackson-smile
+ * receive contacts, users, pages and tokens in that encoding, and request
+ * bodies with the same content types are accepted. Both converters use the
+ * ObjectMapper settings Spring Boot applies to JSON, so the encodings carry the
+ * same fields. JSON stays the default for other or missing Accept headers.
+ */
+@Configuration
+public class BinaryFormatsConfiguration {
+
+	/**
+	 * Configures the converter for CBOR (RFC 8949) bodies.
+	 */
+	@Bean
+	MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+
+	/**
+	 * Configures the converter for Smile, Jackson's binary JSON, bodies.
+	 */
+	@Bean
+	MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+
+}
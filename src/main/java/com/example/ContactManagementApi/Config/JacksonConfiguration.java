@@ -0,0 +1,27 @@
+package com.example.ContactManagementApi.Config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Configuration class for the ObjectMapper settings shared by all encodings.
+ * 
+ * Spring Boot registers every Module bean with the Jackson2ObjectMapperBuilder,
+ * so the settings below apply to the JSON, CBOR and Smile converters and to the
+ * response cache alike.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+	/**
+	 * Registers Blackbird, which replaces the reflective calls to accessors and
+	 * record constructors with generated lambdas, reducing the time and
+	 * allocations spent per serialized response.
+	 */
+	@Bean
+	BlackbirdModule blackbirdModule() {
+		return new BlackbirdModule();
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.example.ContactManagementApi.Config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Remembers which users wrote recently, so their reads can be served by the
+ * primary until the replicas have caught up with their own writes.
+ * 
+ * Users are identified by the name of the current authentication; requests
+ * without an authenticated user are not tracked.
+ */
+public class ReadYourWritesTracker {
+
+	// The time, in nanoseconds, until which reads of each user stay on the primary
+	private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+	// How long reads stay on the primary after a write
+	private final long windowNanos;
+
+	public ReadYourWritesTracker(Duration window) {
+		this.windowNanos = window.toNanos();
+	}
+
+	/**
+	 * Records that the current user is writing to the primary.
+	 */
+	public void recordWrite() {
+		String username = currentUsername();
+		if (username != null) {
+			stickyUntil.put(username, System.nanoTime() + windowNanos);
+		}
+	}
+
+	/**
+	 * Returns whether the current user wrote within the read-your-writes window.
+	 */
+	public boolean isSticky() {
+		String username = currentUsername();
+		if (username == null) {
+			return false;
+		}
+		Long until = stickyUntil.get(username);
+		if (until == null) {
+			return false;
+		}
+		if (until - System.nanoTime() > 0) {
+			return true;
+		}
+		stickyUntil.remove(username, until); // The window has passed; forget the user
+		return false;
+	}
+
+	/**
+	 * Removes the users whose window has passed.
+	 */
+	public void purgeExpired() {
+		long now = System.nanoTime();
+		stickyUntil.values().removeIf(until -> until - now <= 0);
+	}
+
+	// Returns the name of the authenticated user of the current thread, if any
+	private static String currentUsername() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+	}
+
+}
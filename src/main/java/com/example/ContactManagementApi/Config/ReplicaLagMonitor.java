@@ -0,0 +1,88 @@
+package com.example.ContactManagementApi.Config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Periodically measures the replication lag of every replica and tells the
+ * ReplicaRoutingDataSource which replicas may serve reads.
+ * 
+ * A replica is taken out of rotation when its lag exceeds the configured
+ * maximum, when replication is stopped (no lag reported) or when it cannot be
+ * queried. It rejoins as soon as a later check succeeds.
+ */
+public class ReplicaLagMonitor implements SchedulingConfigurer {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+	// Lag columns reported by SHOW REPLICA STATUS (MySQL 8.0.22+) and older servers
+	private static final List<String> LAG_COLUMNS = List.of("Seconds_Behind_Source", "Seconds_Behind_Master");
+
+	private final ReplicaRoutingDataSource routingDataSource;
+
+	private final ReadYourWritesTracker readYourWritesTracker;
+
+	private final String lagQuery;
+
+	private final long maxLagSeconds;
+
+	private final Duration checkInterval;
+
+	public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, ReadYourWritesTracker readYourWritesTracker,
+			String lagQuery, Duration maxLag, Duration checkInterval) {
+		this.routingDataSource = routingDataSource;
+		this.readYourWritesTracker = readYourWritesTracker;
+		this.lagQuery = lagQuery;
+		this.maxLagSeconds = maxLag.toSeconds();
+		this.checkInterval = checkInterval;
+	}
+
+	/**
+	 * Schedules the lag check, starting immediately so replicas join the rotation
+	 * as soon as they are known to be in sync.
+	 */
+	@Override
+	public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+		taskRegistrar.addFixedDelayTask(this::checkReplicas, checkInterval);
+	}
+
+	/**
+	 * Checks the lag of every replica and updates its health accordingly.
+	 */
+	public void checkReplicas() {
+		for (String key : routingDataSource.getReplicaKeys()) {
+			Long lag = measureLag(key);
+			boolean healthy = lag != null && lag <= maxLagSeconds;
+			routingDataSource.setReplicaHealthy(key, healthy);
+			if (!healthy) {
+				logger.warn("Replica {} is out of rotation (lag: {}s)", key, lag);
+			}
+		}
+		readYourWritesTracker.purgeExpired();
+	}
+
+	// Returns the replication lag of the replica in seconds, or null if unknown
+	private Long measureLag(String key) {
+		try {
+			List<Map<String, Object>> rows = new JdbcTemplate(routingDataSource.getTargetDataSource(key))
+					.queryForList(lagQuery);
+			if (rows.isEmpty()) {
+				return null; // Replication is not configured on this server
+			}
+			Map<String, Object> row = rows.get(0);
+			Object lag = LAG_COLUMNS.stream().filter(row::containsKey).map(row::get).findFirst()
+					.orElseGet(() -> row.values().iterator().next());
+			return lag instanceof Number number ? number.longValue() : null;
+		} catch (RuntimeException e) {
+			logger.warn("Replica {} could not be checked: {}", key, e.getMessage());
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.example.ContactManagementApi.Config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration class for routing read-only transactions to read replicas.
+ * 
+ * When app.datasource.routing.enabled is set, the application DataSource is
+ * replaced by a ReplicaRoutingDataSource over the primary (spring.datasource)
+ * and the configured replicas. Methods annotated with
+ * {@code @Transactional(readOnly = true)} then read from a healthy replica.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+	/**
+	 * Configures the connection pool of the primary database from the
+	 * spring.datasource and spring.datasource.hikari properties.
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class)
+				.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	/**
+	 * Configures the tracker that keeps reads of recent writers on the primary.
+	 */
+	@Bean
+	ReadYourWritesTracker readYourWritesTracker(ReplicaRoutingProperties properties) {
+		return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+	}
+
+	/**
+	 * Configures the routing DataSource over the primary and one read-only pool
+	 * per replica. The replica pools publish the same hikaricp metrics as the
+	 * primary and are closed with the routing DataSource.
+	 */
+	@Bean
+	ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+			ReplicaRoutingProperties properties, ReadYourWritesTracker readYourWritesTracker,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		for (int i = 0; i < properties.getReplicas().size(); i++) {
+			ReplicaRoutingProperties.Replica replica = properties.getReplicas().get(i);
+			HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+					.url(replica.getUrl()).username(replica.getUsername()).password(replica.getPassword()).build();
+			dataSource.setPoolName("replica-" + i);
+			dataSource.setReadOnly(true);
+			dataSource.setAutoCommit(primaryDataSource.isAutoCommit()); // Hibernate expects the same mode as the primary
+			meterRegistry.ifAvailable(
+					registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+			replicas.put(dataSource.getPoolName(), dataSource);
+		}
+		return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+	}
+
+	/**
+	 * Exposes the routing DataSource to JPA and JDBC. The lazy proxy defers the
+	 * routing decision until the first statement, when the transaction's
+	 * read-only flag has been set.
+	 */
+	@Bean
+	@Primary
+	DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	/**
+	 * Configures the monitor that takes lagging replicas out of rotation.
+	 */
+	@Bean
+	ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+			ReadYourWritesTracker readYourWritesTracker, ReplicaRoutingProperties properties) {
+		return new ReplicaLagMonitor(replicaRoutingDataSource, readYourWritesTracker, properties.getLagQuery(),
+				properties.getMaxLag(), properties.getLagCheckInterval());
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.example.ContactManagementApi.Config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A DataSource that sends read-only transactions to a pool of read replicas and
+ * everything else to the primary.
+ * 
+ * A replica is only used while the ReplicaLagMonitor reports it healthy, and
+ * users who wrote recently keep reading from the primary. When no replica is
+ * available, reads fall back to the primary. It must be wrapped in a
+ * LazyConnectionDataSourceProxy so the routing decision is made after the
+ * transaction's read-only flag is known.
+ * 
+ * The replica pools are owned by this DataSource and closed with it; the
+ * primary is a bean of its own.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+	// Lookup key of the primary database
+	public static final String PRIMARY = "primary";
+
+	// Lookup keys of the replicas, in configuration order
+	private final List<String> replicaKeys;
+
+	// Lookup keys of the replicas currently within the allowed lag
+	private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+
+	// Tracks users whose reads must see their own writes
+	private final ReadYourWritesTracker readYourWritesTracker;
+
+	// Round-robin position over the replicas
+	private final AtomicInteger next = new AtomicInteger();
+
+	// The replica pools, closed on shutdown
+	private final Map<String, DataSource> replicas;
+
+	public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+			ReadYourWritesTracker readYourWritesTracker) {
+		this.replicaKeys = List.copyOf(replicas.keySet());
+		this.replicas = Map.copyOf(replicas);
+		this.readYourWritesTracker = readYourWritesTracker;
+		Map<Object, Object> targets = new HashMap<>(replicas);
+		targets.put(PRIMARY, primary);
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+	}
+
+	/**
+	 * Chooses the primary for writes, work outside a transaction, sticky users
+	 * and when no replica is healthy; otherwise the next healthy replica in
+	 * round-robin order.
+	 */
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return PRIMARY; // Non-transactional access, such as Flyway or background jobs, is not a write
+		}
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			readYourWritesTracker.recordWrite(); // Later reads of this user must see the write
+			return PRIMARY;
+		}
+		if (readYourWritesTracker.isSticky()) {
+			return PRIMARY;
+		}
+		int size = replicaKeys.size();
+		int start = Math.floorMod(next.getAndIncrement(), size == 0 ? 1 : size);
+		for (int i = 0; i < size; i++) {
+			String key = replicaKeys.get((start + i) % size);
+			if (healthyReplicas.contains(key)) {
+				return key;
+			}
+		}
+		return PRIMARY; // No replica is within the allowed lag
+	}
+
+	/**
+	 * Returns the lookup keys of all configured replicas.
+	 */
+	public List<String> getReplicaKeys() {
+		return replicaKeys;
+	}
+
+	/**
+	 * Returns the target DataSource registered under the given key.
+	 */
+	public DataSource getTargetDataSource(String key) {
+		return getResolvedDataSources().get(key);
+	}
+
+	/**
+	 * Closes the replica pools.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		for (DataSource replica : replicas.values()) {
+			if (replica instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	/**
+	 * Marks the given replica as available for reads or not.
+	 */
+	public void setReplicaHealthy(String key, boolean healthy) {
+		if (healthy) {
+			healthyReplicas.add(key);
+		} else {
+			healthyReplicas.remove(key);
+		}
+	}
+
+}
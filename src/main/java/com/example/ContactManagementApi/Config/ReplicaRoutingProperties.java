@@ -0,0 +1,132 @@
+package com.example.ContactManagementApi.Config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for routing read-only transactions to read
+ * replicas, bound from the app.datasource.routing prefix.
+ */
+@ConfigurationProperties("app.datasource.routing")
+public class ReplicaRoutingProperties {
+
+	/**
+	 * Whether read-only transactions are routed to the configured replicas.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Connection settings of the read replicas.
+	 */
+	private List<Replica> replicas = new ArrayList<>();
+
+	/**
+	 * The largest replication lag at which a replica still serves reads.
+	 */
+	private Duration maxLag = Duration.ofSeconds(5);
+
+	/**
+	 * How often the replication lag of each replica is checked.
+	 */
+	private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+	/**
+	 * The query returning the replication lag of a replica in seconds.
+	 */
+	private String lagQuery = "SHOW REPLICA STATUS";
+
+	/**
+	 * How long reads of a user go to the primary after that user wrote.
+	 */
+	private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+	/**
+	 * Connection settings of a single read replica.
+	 */
+	public static class Replica {
+
+		private String url;
+
+		private String username;
+
+		private String password;
+
+		public String getUrl() {
+			return url;
+		}
+
+		public void setUrl(String url) {
+			this.url = url;
+		}
+
+		public String getUsername() {
+			return username;
+		}
+
+		public void setUsername(String username) {
+			this.username = username;
+		}
+
+		public String getPassword() {
+			return password;
+		}
+
+		public void setPassword(String password) {
+			this.password = password;
+		}
+
+	}
+
+	// Getters and Setters
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public List<Replica> getReplicas() {
+		return replicas;
+	}
+
+	public void setReplicas(List<Replica> replicas) {
+		this.replicas = replicas;
+	}
+
+	public Duration getMaxLag() {
+		return maxLag;
+	}
+
+	public void setMaxLag(Duration maxLag) {
+		this.maxLag = maxLag;
+	}
+
+	public Duration getLagCheckInterval() {
+		return lagCheckInterval;
+	}
+
+	public void setLagCheckInterval(Duration lagCheckInterval) {
+		this.lagCheckInterval = lagCheckInterval;
+	}
+
+	public String getLagQuery() {
+		return lagQuery;
+	}
+
+	public void setLagQuery(String lagQuery) {
+		this.lagQuery = lagQuery;
+	}
+
+	public Duration getReadYourWritesWindow() {
+		return readYourWritesWindow;
+	}
+
+	public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+		this.readYourWritesWindow = readYourWritesWindow;
+	}
+
+}
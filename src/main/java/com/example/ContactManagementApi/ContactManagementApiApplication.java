@@ -2,15 +2,19 @@ package com.example.ContactManagementApi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
 
 /**
  * The entry point for the Contact Management API application.
  * 
  * This class serves as the main configuration and bootstrap for the Spring Boot
  * application. It enables auto-configuration and component scanning within the
- * specified package.
+ * specified package. Asynchronous execution is enabled so that @Async methods
+ * run on the application task executor (virtual threads when the
+ * virtual-threads profile is active).
  */
 @SpringBootApplication
+@EnableAsync
 public class ContactManagementApiApplication {
 
 	/**
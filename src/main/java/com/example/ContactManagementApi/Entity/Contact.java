@@ -1,12 +1,18 @@
 package com.example.ContactManagementApi.Entity;
 
 import jakarta.persistence.Column;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
+import com.example.ContactManagementApi.Validation.Address;
+import com.example.ContactManagementApi.Validation.Alphabetic;
+import com.example.ContactManagementApi.Validation.EmailAddress;
+import com.example.ContactManagementApi.Validation.PhoneNumber;
 
 /**
  * The Contact class represents an entity for storing contact information such
@@ -15,8 +21,13 @@ import jakarta.validation.constraints.Pattern;
  * This entity is mapped to a database table by the JPA framework using
  * the @Entity annotation. Fields are validated using Jakarta Bean Validation
  * annotations.
+ * 
+ * Contacts are kept in a read-write Hibernate second-level cache region, so
+ * lookups by ID, single or batched, are served from memory when possible.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Contact {
 
 	/**
@@ -32,7 +43,7 @@ public class Contact {
 	 * alphabetic characters.
 	 */
 	@NotBlank(message = "First name is required")
-	@Pattern(regexp = "^[A-Za-z]+$", message = "First name must contain only alphabetic characters")
+	@Alphabetic(message = "First name must contain only alphabetic characters")
 	private String firstName;
 
 	/**
@@ -40,7 +51,7 @@ public class Contact {
 	 * alphabetic characters.
 	 */
 	@NotBlank(message = "Last name is required")
-	@Pattern(regexp = "^[A-Za-z]+$", message = "Last name must contain only alphabetic characters")
+	@Alphabetic(message = "Last name must contain only alphabetic characters")
 	private String lastName;
 
 	/**
@@ -48,7 +59,7 @@ public class Contact {
 	 * email format and must be unique across all contact entries.
 	 */
 	@NotBlank(message = "Email is required")
-	@Pattern(regexp = "^[A-Za-z0-9._%+-]+@[A-Za-z]+\\.[A-Za-z]{2,}$", message = "Email format is invalid")
+	@EmailAddress
 	@Column(unique = true)
 	private String email;
 
@@ -58,7 +69,7 @@ public class Contact {
 	 * unique.
 	 */
 	@NotBlank(message = "Phone number is required")
-	@Pattern(regexp = "^\\+[0-9]{2}[0-9]{10}$", message = "Invalid phone number format. It should start with + and countrycode")
+	@PhoneNumber
 	@Column(unique = true)
 	private String phoneNumber;
 
@@ -66,7 +77,7 @@ public class Contact {
 	 * The address of the contact. This field is optional but if provided, it must
 	 * follow a valid format.
 	 */
-	@Pattern(regexp = "^[A-Za-z0-9\\s,]*$", message = "Invalid address format")
+	@Address
 	private String address;
 
 	// Getters and Setters
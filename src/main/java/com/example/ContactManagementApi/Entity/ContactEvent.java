@@ -0,0 +1,107 @@
+package com.example.ContactManagementApi.Entity;
+
+import java.util.Date;
+import org.hibernate.annotations.CreationTimestamp;
+import com.example.ContactManagementApi.Enum.ChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+/**
+ * The ContactEvent class represents one change of a contact, recorded in the
+ * outbox table in the same transaction as the change itself.
+ * 
+ * Events are never updated. Their IDs increase with every write and serve as
+ * the offsets that change stream consumers resume from.
+ */
+@Entity
+public class ContactEvent {
+
+	/**
+	 * The source of the changes made through the ContactService.
+	 */
+	public static final String CONTACTS = "contacts";
+
+	/**
+	 * The source of the changes made through the ContactWithDuplicatesService.
+	 */
+	public static final String DUPLICATE_CONTACTS = "duplicateContacts";
+
+	/**
+	 * The unique identifier and offset of each event. It is auto-generated by the
+	 * database using the IDENTITY strategy.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * The contacts the change was made to, either CONTACTS or DUPLICATE_CONTACTS.
+	 */
+	@Column(nullable = false)
+	private String source;
+
+	/**
+	 * The kind of change.
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private ChangeType type;
+
+	/**
+	 * The ID of the changed contact, or null for changes of many contacts.
+	 */
+	private Long contactId;
+
+	/**
+	 * The JSON details of the change, or null if the type needs none.
+	 */
+	@Column(columnDefinition = "longtext")
+	private String payload;
+
+	/**
+	 * The timestamp for when the change was made. This field is not updatable.
+	 */
+	@CreationTimestamp
+	@Column(nullable = false, updatable = false, name = "created_at")
+	private Date createdAt;
+
+	protected ContactEvent() {
+	}
+
+	public ContactEvent(String source, ChangeType type, Long contactId, String payload) {
+		this.source = source;
+		this.type = type;
+		this.contactId = contactId;
+		this.payload = payload;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+	public ChangeType getType() {
+		return type;
+	}
+
+	public Long getContactId() {
+		return contactId;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public Date getCreatedAt() {
+		return createdAt;
+	}
+
+}
@@ -1,11 +1,17 @@
 package com.example.ContactManagementApi.Entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
+import com.example.ContactManagementApi.Validation.Address;
+import com.example.ContactManagementApi.Validation.Alphabetic;
+import com.example.ContactManagementApi.Validation.EmailAddress;
+import com.example.ContactManagementApi.Validation.PhoneNumber;
 
 /**
  * The ContactWithDuplicates class represents an entity for storing contact
@@ -16,8 +22,13 @@ import jakarta.validation.constraints.Pattern;
  * This entity is mapped to a database table by the JPA framework using
  * the @Entity annotation. Fields are validated using Jakarta Bean Validation
  * annotations.
+ * 
+ * Contacts are kept in a read-write Hibernate second-level cache region, so
+ * lookups by ID, single or batched, are served from memory when possible.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class ContactWithDuplicates {
 
 	/**
@@ -33,7 +44,7 @@ public class ContactWithDuplicates {
 	 * alphabetic characters.
 	 */
 	@NotBlank(message = "First name is required")
-	@Pattern(regexp = "^[A-Za-z]+$", message = "First name must contain only alphabetic characters")
+	@Alphabetic(message = "First name must contain only alphabetic characters")
 	private String firstName;
 
 	/**
@@ -41,7 +52,7 @@ public class ContactWithDuplicates {
 	 * alphabetic characters.
 	 */
 	@NotBlank(message = "Last name is required")
-	@Pattern(regexp = "^[A-Za-z]+$", message = "Last name must contain only alphabetic characters")
+	@Alphabetic(message = "Last name must contain only alphabetic characters")
 	private String lastName;
 
 	/**
@@ -49,7 +60,7 @@ public class ContactWithDuplicates {
 	 * email format, and is subject to duplication checks in the application logic.
 	 */
 	@NotBlank(message = "Email is required")
-	@Pattern(regexp = "^[A-Za-z0-9._%+-]+@[A-Za-z]+\\.[A-Za-z]{2,}$", message = "Email format is invalid")
+	@EmailAddress
 	private String email;
 
 	/**
@@ -57,14 +68,14 @@ public class ContactWithDuplicates {
 	 * phone number format starting with a plus sign and country code.
 	 */
 	@NotBlank(message = "Phone number is required")
-	@Pattern(regexp = "^\\+[0-9]{2}[0-9]{10}$", message = "Invalid phone number format. It should start with + and countrycode")
+	@PhoneNumber
 	private String phoneNumber;
 
 	/**
 	 * The address of the contact. This field is optional but must follow a valid
 	 * format if provided.
 	 */
-	@Pattern(regexp = "^[A-Za-z0-9\\s,]*$", message = "Invalid address format")
+	@Address
 	private String address;
 
 	// Getters and Setters
@@ -1,6 +1,10 @@
 package com.example.ContactManagementApi.Entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 import com.example.ContactManagementApi.Enum.RoleEnum;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -13,8 +17,14 @@ import jakarta.persistence.Id;
  * application. It contains fields for the role's unique identifier and the
  * role's name as an enumeration. This entity is mapped to a database table by
  * the JPA framework using the @Entity annotation.
+ * 
+ * Roles never change once seeded, so the entity is immutable and kept in a
+ * read-only Hibernate second-level cache region.
  */
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 public class Role {
 
 	/**
@@ -0,0 +1,30 @@
+package com.example.ContactManagementApi.Enum;
+
+/**
+ * Enum representing the kinds of changes recorded in the contact event outbox
+ * and published to the change stream.
+ */
+public enum ChangeType {
+
+	/**
+	 * A contact was registered; the event carries the new contact.
+	 */
+	CREATED,
+
+	/**
+	 * A contact was updated; the event carries the contact as it is now.
+	 */
+	UPDATED,
+
+	/**
+	 * A contact was deleted; the event only carries its ID.
+	 */
+	DELETED,
+
+	/**
+	 * Duplicate contacts were merged; the event carries the IDs of the contacts
+	 * that were updated and of those that were deleted.
+	 */
+	MERGED
+
+}
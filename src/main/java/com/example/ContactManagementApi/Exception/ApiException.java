@@ -0,0 +1,41 @@
+package com.example.ContactManagementApi.Exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The base class of the exceptions thrown for expected outcomes of a request,
+ * such as a missing contact, each mapped to an HTTP status by the
+ * GlobalExceptionHandler.
+ * 
+ * These exceptions are part of normal operation, so they do not capture a
+ * stack trace: a scan of missing IDs costs no more than the lookups themselves.
+ */
+public abstract class ApiException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final HttpStatus status;
+
+	private final String description;
+
+	protected ApiException(HttpStatus status, String description, String message) {
+		super(message, null, false, false); // No suppressed exceptions and no stack trace
+		this.status = status;
+		this.description = description;
+	}
+
+	/**
+	 * Returns the status of the error response.
+	 */
+	public HttpStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Returns the general description of the error sent with the response.
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+}
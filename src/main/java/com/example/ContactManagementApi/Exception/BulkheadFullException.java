@@ -0,0 +1,17 @@
+package com.example.ContactManagementApi.Exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a heavy operation finds its bulkhead full or waits for it longer
+ * than the queue timeout; answered with 503 Service Unavailable.
+ */
+public class BulkheadFullException extends ApiException {
+
+	private static final long serialVersionUID = 1L;
+
+	public BulkheadFullException(String message) {
+		super(HttpStatus.SERVICE_UNAVAILABLE, "The server is busy with other heavy requests, retry later", message);
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.example.ContactManagementApi.Exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a request would duplicate a value that must be unique, such as a
+ * username; answered with 409 Conflict.
+ */
+public class ConflictException extends ApiException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ConflictException(String message) {
+		super(HttpStatus.CONFLICT, "The request conflicts with existing data", message);
+	}
+
+}
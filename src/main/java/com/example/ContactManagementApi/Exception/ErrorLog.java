@@ -0,0 +1,150 @@
+package com.example.ContactManagementApi.Exception;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * The ErrorLog class logs the exceptions answered by the GlobalExceptionHandler
+ * as one key=value line each, e.g. request_error status=404 method=GET
+ * uri=/api/contacts/retrieve/{id} exception=ResourceNotFoundException.
+ *
+ * Lines are written by a single background thread, so request threads never
+ * wait for the console or a log file. Stack traces are only written for server
+ * errors. Each combination of status and exception type may log at most
+ * app.error-log.max-per-interval lines per app.error-log.interval; the rest,
+ * and lines that do not fit in the queue, are counted and reported as
+ * suppressed=N on the next line that is written for the combination.
+ */
+@Component
+public class ErrorLog {
+
+	private static final Logger logger = LoggerFactory.getLogger(ErrorLog.class);
+
+	// The most lines logged per status and exception type in one interval
+	@Value("${app.error-log.max-per-interval:20}")
+	private int maxPerInterval;
+
+	@Value("${app.error-log.interval:10s}")
+	private Duration interval;
+
+	// The most lines waiting to be written
+	@Value("${app.error-log.queue-size:1000}")
+	private int queueSize;
+
+	private final ConcurrentHashMap<Key, Window> windows = new ConcurrentHashMap<>();
+
+	private ThreadPoolExecutor writer;
+
+	/**
+	 * Starts the writer thread once the settings have been injected.
+	 */
+	@PostConstruct
+	void start() {
+		writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+				runnable -> {
+					Thread thread = new Thread(runnable, "error-log");
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	/**
+	 * Writes the lines still queued before the application stops.
+	 */
+	@PreDestroy
+	void stop() throws InterruptedException {
+		writer.shutdown();
+		writer.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Logs an exception answered with the given status, unless its combination
+	 * has already logged too often in the current interval.
+	 */
+	public void log(int status, Exception exception, HttpServletRequest request) {
+		Window window = windows.computeIfAbsent(new Key(status, exception.getClass()), key -> new Window());
+		long suppressed = window.acquire(System.nanoTime(), interval.toNanos(), maxPerInterval);
+		if (suppressed < 0) {
+			return;
+		}
+
+		// Reads the request here, as it is recycled once the response is sent
+		Object pattern = request == null ? null : request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String method = request == null ? "UNKNOWN" : request.getMethod();
+		String uri = pattern != null ? pattern.toString() : request == null ? "UNKNOWN" : request.getRequestURI();
+		try {
+			writer.execute(() -> write(status, exception, method, uri, suppressed));
+		} catch (RejectedExecutionException e) {
+			window.suppress(suppressed + 1);
+		}
+	}
+
+	private static void write(int status, Exception exception, String method, String uri, long suppressed) {
+		StringBuilder line = new StringBuilder(256).append("request_error status=").append(status).append(" method=")
+				.append(method).append(" uri=").append(uri).append(" exception=")
+				.append(exception.getClass().getSimpleName()).append(" message=\"").append(exception.getMessage())
+				.append('"');
+		if (suppressed > 0) {
+			line.append(" suppressed=").append(suppressed);
+		}
+		if (status >= 500) {
+			logger.error(line.toString(), exception);
+		} else {
+			logger.warn(line.toString());
+		}
+	}
+
+	/**
+	 * Identifies the lines limited together.
+	 */
+	private record Key(int status, Class<?> type) {
+	}
+
+	/**
+	 * Counts the lines logged and suppressed in the current interval of one key.
+	 */
+	private static final class Window {
+
+		private long start = Long.MIN_VALUE;
+
+		private int logged;
+
+		private long suppressed;
+
+		// Returns the number of lines suppressed since the last one written, or -1
+		// if this line must be suppressed too
+		synchronized long acquire(long now, long interval, int max) {
+			if (start == Long.MIN_VALUE || now - start >= interval) {
+				start = now;
+				logged = 0;
+			}
+			if (logged >= max) {
+				suppressed++;
+				return -1;
+			}
+			logged++;
+			long result = suppressed;
+			suppressed = 0;
+			return result;
+		}
+
+		// Adds lines that could not be written after all
+		synchronized void suppress(long lines) {
+			suppressed += lines;
+		}
+
+	}
+
+}
@@ -2,17 +2,24 @@ package com.example.ContactManagementApi.Exception;
 
 import java.util.stream.Collectors;
 import java.util.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AccountStatusException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * A global exception handler for the Spring Boot application.
@@ -20,21 +27,74 @@ import io.jsonwebtoken.security.SignatureException;
  * This class handles exceptions thrown by controllers and provides custom
  * responses. It uses RestControllerAdvice to intercept exceptions and send
  * appropriate HTTP responses.
+ * 
+ * Every answered exception is passed to the ErrorLog, which logs it off the
+ * request thread and limits how often the same error is logged.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+	// Injects the ErrorLog that records the answered exceptions
+	@Autowired
+	private ErrorLog errorLog;
+
+	/**
+	 * Handles the exceptions thrown for expected outcomes, such as a missing
+	 * contact, with the status they carry.
+	 */
+	@ExceptionHandler(ApiException.class)
+	public ProblemDetail handleApiException(ApiException exception, HttpServletRequest request) {
+		ProblemDetail errorDetail = ProblemDetail.forStatusAndDetail(exception.getStatus(), exception.getMessage());
+		errorDetail.setProperty("description", exception.getDescription());
+		errorLog.log(errorDetail.getStatus(), exception, request);
+		return errorDetail;
+	}
+
+	/**
+	 * Handles writes rejected by a database constraint. Only a unique constraint,
+	 * such as a second contact with the same email or phone number, is answered
+	 * with 409 Conflict; any other violation is a server error.
+	 */
+	@ExceptionHandler(DataIntegrityViolationException.class)
+	public ProblemDetail handleDataIntegrityViolation(DataIntegrityViolationException exception,
+			HttpServletRequest request) {
+		// The message contains the SQL statement, so it is only logged
+		ProblemDetail errorDetail;
+		if (isUniqueViolation(exception)) {
+			errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(409),
+					"A value that must be unique is already in use");
+			errorDetail.setProperty("description", "The request conflicts with existing data");
+		} else {
+			errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(500),
+					"A database constraint was violated");
+			errorDetail.setProperty("description", "Unknown internal server error.");
+		}
+		errorLog.log(errorDetail.getStatus(), exception, request);
+		return errorDetail;
+	}
+
+	// JDBC code reports unique violations as DuplicateKeyException, Hibernate as
+	// a ConstraintViolationException of kind UNIQUE somewhere in the causes
+	private static boolean isUniqueViolation(DataIntegrityViolationException exception) {
+		if (exception instanceof DuplicateKeyException) {
+			return true;
+		}
+		for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation) {
+				return violation.getKind() == ConstraintKind.UNIQUE;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Handles general exceptions that are not specifically caught by other
 	 * handlers.
 	 */
 	@ExceptionHandler(Exception.class)
-	public ProblemDetail handleSecurityException(Exception exception) {
+	public ProblemDetail handleSecurityException(Exception exception, HttpServletRequest request) {
 		ProblemDetail errorDetail = null;
 
-		// Log the exception stack trace for debugging purposes
-		exception.printStackTrace();
-
 		// Handle specific exceptions
 		if (exception instanceof BadCredentialsException) {
 			errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(401), exception.getMessage());
@@ -63,12 +123,20 @@ public class GlobalExceptionHandler {
 			errorDetail.setProperty("description", "The JWT token has expired");
 		}
 
+		// Spring MVC exceptions, e.g. NoResourceFoundException for unknown paths,
+		// carry their own status and detail
+		if (errorDetail == null && exception instanceof ErrorResponse errorResponse) {
+			errorDetail = errorResponse.getBody();
+		}
+
 		// Handle unknown internal server error
 		if (errorDetail == null) {
 			errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(500), exception.getMessage());
 			errorDetail.setProperty("description", "Unknown internal server error.");
 		}
 
+		// Log the exception, with its stack trace for server errors
+		errorLog.log(errorDetail.getStatus(), exception, request);
 		return errorDetail;
 
 	}
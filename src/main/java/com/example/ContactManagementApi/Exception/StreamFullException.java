@@ -0,0 +1,18 @@
+package com.example.ContactManagementApi.Exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a client connects to the change stream while the most clients
+ * allowed are connected; answered with 503 Service Unavailable.
+ */
+public class StreamFullException extends ApiException {
+
+	private static final long serialVersionUID = 1L;
+
+	public StreamFullException(String message) {
+		super(HttpStatus.SERVICE_UNAVAILABLE, "The change stream has no room for more clients, retry later",
+				message);
+	}
+
+}
@@ -0,0 +1,360 @@
+package com.example.ContactManagementApi.Idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import com.example.ContactManagementApi.Idempotency.IdempotencyStore.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter that answers retried POST requests with the response to their first
+ * attempt, so a client that times out can safely send the request again.
+ *
+ * A request to one of the app.idempotency.paths that carries an
+ * Idempotency-Key header is identified by the user, the path and the header
+ * value. The first request with a key runs as usual and its response is kept
+ * in the IdempotencyStore, unless it is a server error; a later request with
+ * the key is answered from the store with an Idempotent-Replayed header,
+ * without reaching the controllers or the services. A request that arrives
+ * while the first one is still running waits for its response, for at most
+ * app.idempotency.in-flight-timeout, and is answered with 409 Conflict if it
+ * is not ready by then. Reusing a key with a different request body is
+ * answered with 422 Unprocessable Entity.
+ *
+ * Requests waiting on the same instance share one future. Across instances, the
+ * first request reserves its key in the store before it runs, and a request
+ * that finds the key reserved polls the store for the response instead of
+ * running, for at most the same timeout; it runs itself if the reservation is
+ * released by a request that failed.
+ *
+ * The filter runs after the Spring Security filter chain, so requests are
+ * authenticated and rate limited before they are matched to a key. Requests
+ * are counted in the idempotency.requests counter, tagged with executed,
+ * replayed or rejected.
+ */
+@Component
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "Idempotency-Key";
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private static final long POLL_INTERVAL_MILLIS = 100;
+
+	private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+	// Injects the paths and timeouts
+	@Autowired
+	private IdempotencyProperties properties;
+
+	// Injects the in-memory or database store, as configured
+	@Autowired
+	private IdempotencyStore store;
+
+	// Injects the ObjectMapper to write the problem details of rejected requests
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// Injects the registry the requests are counted in
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// The first requests still running, keyed like the store
+	private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+	private Counter executed;
+
+	private Counter replayed;
+
+	private Counter rejected;
+
+	/**
+	 * Registers the counters.
+	 */
+	@PostConstruct
+	void registerMeters() {
+		executed = counter("executed");
+		replayed = counter("replayed");
+		rejected = counter("rejected");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String idempotencyKey = request.getHeader(HEADER);
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		if (idempotencyKey == null || !properties.isEnabled() || !request.getMethod().equals("POST")
+				|| !properties.getPaths().contains(path)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			reject(response, HttpStatus.BAD_REQUEST,
+					"The " + HEADER + " header must have between 1 and " + MAX_KEY_LENGTH + " characters");
+			return;
+		}
+
+		byte[] body = request.getInputStream().readAllBytes();
+		String key = storeKey(user(), path, idempotencyKey);
+		String requestHash = sha256(body);
+
+		StoredResponse stored = store.find(key);
+		if (stored == null) {
+			CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+			CompletableFuture<StoredResponse> existing = inFlight.putIfAbsent(key, execution);
+			if (existing == null) {
+				execute(key, requestHash, new CachedBodyRequest(request, body), response, filterChain, execution);
+				return;
+			}
+			stored = await(existing);
+			if (stored == null) {
+				reject(response, HttpStatus.CONFLICT,
+						"A request with the same " + HEADER + " is still in progress, retry later");
+				return;
+			}
+		}
+		replay(stored, requestHash, response);
+	}
+
+	// Runs the first request with a key on this instance and stores its response,
+	// unless another instance is running a request with the key
+	private void execute(String key, String requestHash, HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain, CompletableFuture<StoredResponse> execution) throws ServletException, IOException {
+		try {
+			// A request that finished after the first lookup has stored its response
+			StoredResponse stored = store.find(key);
+			long deadline = System.nanoTime() + properties.getInFlightTimeout().toNanos();
+			while (stored == null && !store.reserve(key, requestHash)) {
+				// Another instance reserved the key; polls until it stores the response
+				// or releases the key
+				if (System.nanoTime() - deadline >= 0 || !sleep()) {
+					reject(response, HttpStatus.CONFLICT,
+							"A request with the same " + HEADER + " is still in progress, retry later");
+					return;
+				}
+				stored = store.find(key);
+			}
+			if (stored != null) {
+				execution.complete(stored);
+				replay(stored, requestHash, response);
+				return;
+			}
+
+			ContentCachingResponseWrapper capturedResponse = new ContentCachingResponseWrapper(response);
+			try {
+				filterChain.doFilter(request, capturedResponse);
+			} catch (IOException | ServletException | RuntimeException | Error e) {
+				release(key);
+				throw e;
+			}
+			stored = new StoredResponse(requestHash, capturedResponse.getStatus(), capturedResponse.getContentType(),
+					capturedResponse.getContentAsByteArray());
+			if (stored.status() < 500) {
+				save(key, stored);
+			} else {
+				release(key);
+			}
+			execution.complete(stored);
+			executed.increment();
+			capturedResponse.copyBodyToResponse();
+		} finally {
+			// Releases the waiting requests if the chain failed
+			execution.complete(null);
+			inFlight.remove(key, execution);
+		}
+	}
+
+	// Stores a response; a store that is unavailable does not fail the request,
+	// whose work is done already
+	private void save(String key, StoredResponse stored) {
+		try {
+			store.save(key, stored);
+		} catch (DataAccessException e) {
+			logger.warn("Could not store the response for an idempotency key", e);
+		}
+	}
+
+	// Releases the key of a request whose response is not kept, so a retry runs
+	private void release(String key) {
+		try {
+			store.release(key);
+		} catch (DataAccessException e) {
+			logger.warn("Could not release an idempotency key", e);
+		}
+	}
+
+	// Waits between two polls of the store, returning false if interrupted
+	private static boolean sleep() {
+		try {
+			Thread.sleep(POLL_INTERVAL_MILLIS);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	// Waits for the response of the first request, returning null if it is not
+	// ready in time or did not complete
+	private StoredResponse await(CompletableFuture<StoredResponse> execution) {
+		try {
+			return execution.get(properties.getInFlightTimeout().toNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	// Answers a request with a stored response, if it was sent with the same body
+	private void replay(StoredResponse stored, String requestHash, HttpServletResponse response) throws IOException {
+		if (!stored.requestHash().equals(requestHash)) {
+			reject(response, HttpStatus.UNPROCESSABLE_ENTITY,
+					"The " + HEADER + " was already used for a request with a different body");
+			return;
+		}
+		replayed.increment();
+		response.setStatus(stored.status());
+		response.setHeader("Idempotent-Replayed", "true");
+		if (stored.contentType() != null) {
+			response.setContentType(stored.contentType());
+		}
+		response.setContentLength(stored.body().length);
+		response.getOutputStream().write(stored.body());
+	}
+
+	private void reject(HttpServletResponse response, HttpStatus status, String detail) throws IOException {
+		rejected.increment();
+		ProblemDetail errorDetail = ProblemDetail.forStatusAndDetail(status, detail);
+		errorDetail.setProperty("description", "The request could not be matched to its first attempt");
+		response.setStatus(status.value());
+		response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), errorDetail);
+	}
+
+	// Returns the authenticated user; the configured paths all require one
+	private static String user() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication == null ? "" : authentication.getName();
+	}
+
+	/**
+	 * Returns the key a request is stored under: the hash of the user, the path
+	 * and the Idempotency-Key header.
+	 */
+	static String storeKey(String user, String path, String idempotencyKey) {
+		return sha256((user + '\n' + path + '\n' + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String sha256(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private Counter counter(String result) {
+		return Counter.builder("idempotency.requests").description("Requests sent with an Idempotency-Key header")
+				.tag("result", result).register(meterRegistry);
+	}
+
+	/**
+	 * A request whose body has been read already, served again from memory.
+	 */
+	private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+		private final byte[] body;
+
+		CachedBodyRequest(HttpServletRequest request, byte[] body) {
+			super(request);
+			this.body = body;
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			ByteArrayInputStream input = new ByteArrayInputStream(body);
+			return new ServletInputStream() {
+				@Override
+				public int read() {
+					return input.read();
+				}
+
+				@Override
+				public int read(byte[] buffer, int offset, int length) {
+					return input.read(buffer, offset, length);
+				}
+
+				@Override
+				public boolean isFinished() {
+					return input.available() == 0;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				@Override
+				public void setReadListener(ReadListener readListener) {
+					// The whole body is in memory, so it is available and read at once
+					try {
+						if (!isFinished()) {
+							readListener.onDataAvailable();
+						}
+						if (isFinished()) {
+							readListener.onAllDataRead();
+						}
+					} catch (IOException e) {
+						readListener.onError(e);
+					}
+				}
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() {
+			String encoding = getCharacterEncoding();
+			Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+			return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+		}
+
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.example.ContactManagementApi.Idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for answering retried requests from their first
+ * response, bound from the app.idempotency prefix.
+ */
+@ConfigurationProperties("app.idempotency")
+public class IdempotencyProperties {
+
+	/**
+	 * Where the first responses are kept.
+	 */
+	public enum Store {
+		MEMORY, JDBC
+	}
+
+	/**
+	 * Whether the Idempotency-Key header is honoured at all.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The POST endpoints that honour the header.
+	 */
+	private List<String> paths = List.of("/api/contacts/register", "/api/duplicateContacts/register",
+			"/api/duplicateContacts/mergeDuplicates");
+
+	/**
+	 * How long a response is replayed for its key.
+	 */
+	private Duration ttl = Duration.ofHours(24);
+
+	/**
+	 * The most responses kept in memory; the oldest are dropped beyond it.
+	 */
+	private int maxEntries = 10_000;
+
+	/**
+	 * How long a request waits for a request with the same key that is still in
+	 * progress.
+	 */
+	private Duration inFlightTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * Where the responses are kept: in memory, or in the idempotency_key table so
+	 * that all instances share them.
+	 */
+	private Store store = Store.MEMORY;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public List<String> getPaths() {
+		return paths;
+	}
+
+	public void setPaths(List<String> paths) {
+		this.paths = paths;
+	}
+
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	public void setTtl(Duration ttl) {
+		this.ttl = ttl;
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public void setMaxEntries(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	public Duration getInFlightTimeout() {
+		return inFlightTimeout;
+	}
+
+	public void setInFlightTimeout(Duration inFlightTimeout) {
+		this.inFlightTimeout = inFlightTimeout;
+	}
+
+	public Store getStore() {
+		return store;
+	}
+
+	public void setStore(Store store) {
+		this.store = store;
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.example.ContactManagementApi.Idempotency;
+
+/**
+ * Keeps the first response to each idempotency key until its TTL has passed.
+ */
+public interface IdempotencyStore {
+
+	/**
+	 * A stored response, with the hash of the request body it answered.
+	 */
+	record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+	}
+
+	/**
+	 * Returns the response stored for the key, or null if there is none, it has
+	 * expired or the key is only reserved.
+	 */
+	StoredResponse find(String key);
+
+	/**
+	 * Stores the response for the key, unless one is stored already, completing
+	 * its reservation.
+	 */
+	void save(String key, StoredResponse response);
+
+	/**
+	 * Reserves the key for a request about to run, unless a response or an
+	 * unexpired reservation is stored for it; returns whether it was reserved.
+	 * Stores used by a single instance leave the coordination to the filter and
+	 * always grant it.
+	 */
+	default boolean reserve(String key, String requestHash) {
+		return true;
+	}
+
+	/**
+	 * Removes the reservation of a request that produced no response to keep.
+	 */
+	default void release(String key) {
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.example.ContactManagementApi.Idempotency;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the stored responses in memory, for a single instance.
+ *
+ * Entries are kept in insertion order, which is also the order in which they
+ * expire, as all share one TTL. The oldest entry is dropped when
+ * app.idempotency.max-entries is exceeded, and expired entries are dropped
+ * from the head whenever one is added.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+	// Injects the TTL and the maximum number of entries
+	@Autowired
+	private IdempotencyProperties properties;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>() {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > properties.getMaxEntries();
+		}
+	};
+
+	@Override
+	public synchronized StoredResponse find(String key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (System.nanoTime() - entry.expiresAt >= 0) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.response;
+	}
+
+	@Override
+	public synchronized void save(String key, StoredResponse response) {
+		long now = System.nanoTime();
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext() && now - iterator.next().expiresAt >= 0) {
+			iterator.remove();
+		}
+		entries.putIfAbsent(key, new Entry(response, now + properties.getTtl().toNanos()));
+	}
+
+	private record Entry(StoredResponse response, long expiresAt) {
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.example.ContactManagementApi.Idempotency;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the stored responses in the idempotency_key table, so a retry is
+ * answered by whichever instance receives it.
+ *
+ * A request reserves its key by inserting a row without a status before it
+ * runs, so a retry received by another instance meanwhile waits for the row to
+ * be completed instead of running again. The reservation expires after
+ * app.idempotency.in-flight-timeout, in case its instance stops before
+ * completing it. Expired rows are ignored when read, taken over when their key
+ * is reserved again, and deleted at most once a minute, by the first
+ * reservation or save after the minute has passed. The table is bounded by the TTL
+ * rather than app.idempotency.max-entries.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+	private static final long PRUNE_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+	// Injects the TTL of the stored responses and of the reservations
+	@Autowired
+	private IdempotencyProperties properties;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// Injects the TransactionTemplate, as connections are not in auto-commit mode
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	// When expired rows are deleted next
+	private final AtomicLong nextPrune = new AtomicLong(System.nanoTime());
+
+	@Override
+	public StoredResponse find(String key) {
+		List<StoredResponse> rows = transactionTemplate.execute(status -> jdbcTemplate.query(
+				"select request_hash, status, content_type, body from idempotency_key where key_hash = ? and status is not null and expires_at > ?",
+				(resultSet, rowNum) -> new StoredResponse(resultSet.getString(1), resultSet.getInt(2),
+						resultSet.getString(3), resultSet.getBytes(4)),
+				key, Timestamp.from(Instant.now())));
+		return rows.isEmpty() ? null : rows.get(0);
+	}
+
+	@Override
+	public void save(String key, StoredResponse response) {
+		Instant now = Instant.now();
+		prune(now);
+		Timestamp expiresAt = Timestamp.from(now.plus(properties.getTtl()));
+		int completed = transactionTemplate.execute(status -> jdbcTemplate.update(
+				"update idempotency_key set request_hash = ?, status = ?, content_type = ?, body = ?, expires_at = ? where key_hash = ? and status is null",
+				response.requestHash(), response.status(), response.contentType(), response.body(), expiresAt, key));
+		if (completed > 0) {
+			return;
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+					"insert into idempotency_key (key_hash, request_hash, status, content_type, body, expires_at) values (?, ?, ?, ?, ?, ?)",
+					key, response.requestHash(), response.status(), response.contentType(), response.body(), expiresAt));
+		} catch (DuplicateKeyException e) {
+			// Another instance stored the first response already
+		}
+	}
+
+	@Override
+	public boolean reserve(String key, String requestHash) {
+		Instant now = Instant.now();
+		prune(now);
+		Timestamp leaseEnd = Timestamp.from(now.plus(properties.getInFlightTimeout()));
+		try {
+			transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+					"insert into idempotency_key (key_hash, request_hash, expires_at) values (?, ?, ?)", key,
+					requestHash, leaseEnd));
+			return true;
+		} catch (DuplicateKeyException e) {
+			// Takes the key over if its response or reservation has expired
+			int takenOver = transactionTemplate.execute(status -> jdbcTemplate.update(
+					"update idempotency_key set request_hash = ?, status = null, content_type = null, body = null, expires_at = ? where key_hash = ? and expires_at <= ?",
+					requestHash, leaseEnd, key, Timestamp.from(now)));
+			return takenOver > 0;
+		}
+	}
+
+	@Override
+	public void release(String key) {
+		transactionTemplate.executeWithoutResult(status -> jdbcTemplate
+				.update("delete from idempotency_key where key_hash = ? and status is null", key));
+	}
+
+	// Deletes the expired rows if the last prune was more than a minute ago
+	private void prune(Instant now) {
+		long next = nextPrune.get();
+		if (System.nanoTime() - next < 0 || !nextPrune.compareAndSet(next, System.nanoTime() + PRUNE_INTERVAL_NANOS)) {
+			return;
+		}
+		transactionTemplate.executeWithoutResult(status -> jdbcTemplate
+				.update("delete from idempotency_key where expires_at <= ?", Timestamp.from(now)));
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.example.ContactManagementApi.Metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import com.example.ContactManagementApi.Metrics.RequestTimings.Stage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Interceptor that starts the handler stage of a timed request.
+ * 
+ * SerializationTimingAdvice switches to the serialization stage when the
+ * response body is about to be written; the running stage ends once the
+ * handler has completed.
+ */
+@Component
+public class HandlerTimingInterceptor implements HandlerInterceptor {
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		RequestTimings timings = RequestTimings.current();
+		if (timings != null) {
+			timings.begin(Stage.HANDLER);
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		RequestTimings timings = RequestTimings.current();
+		if (timings != null) {
+			timings.end();
+		}
+	}
+
+}
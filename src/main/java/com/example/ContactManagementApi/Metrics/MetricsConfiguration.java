@@ -0,0 +1,44 @@
+package com.example.ContactManagementApi.Metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration class for application metrics.
+ * 
+ * It enables the @Timed annotation on the service classes, so every service
+ * method is recorded as a timer with its class and method as tags. It also
+ * registers the interceptor that times the handler stage for the
+ * Server-Timing header.
+ */
+@Configuration
+@EnableConfigurationProperties(ServerTimingProperties.class)
+public class MetricsConfiguration implements WebMvcConfigurer {
+
+	// Injects the interceptor that times controller methods
+	@Autowired
+	private HandlerTimingInterceptor handlerTimingInterceptor;
+
+	/**
+	 * Configures the aspect that times methods of classes annotated with @Timed.
+	 */
+	@Bean
+	TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+
+	/**
+	 * Registers the interceptor that starts the handler stage of timed requests.
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(handlerTimingInterceptor);
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.example.ContactManagementApi.Metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import com.example.ContactManagementApi.Metrics.RequestTimings.Stage;
+
+/**
+ * Aspect that adds the time spent in Spring Data repository calls to the db
+ * stage of a timed request.
+ */
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+
+	@Around("this(org.springframework.data.repository.Repository)")
+	public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+		long start = RequestTimings.start();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			RequestTimings.stop(Stage.DB, start);
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.example.ContactManagementApi.Metrics;
+
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import com.example.ContactManagementApi.Metrics.StatementCounter.RepeatedStatement;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter that records how many SQL statements each request executed.
+ * 
+ * It runs ahead of the security filters, so statements issued while
+ * authenticating the JWT are counted too. The count is published as the
+ * hibernate.statements.per.request distribution, tagged with the matched URI
+ * pattern.
+ * 
+ * Requests that execute more statements than app.statements.warn-threshold are
+ * logged together with the statement they repeated most past the threshold,
+ * which points at N+1 queries and row-by-row writes. Only those statements are
+ * counted per SQL string; below the threshold a request just counts them.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+	// Injects the registry the statement counts are published to
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// The statement count above which a request is logged; 0 disables the log
+	@Value("${app.statements.warn-threshold:0}")
+	private int warnThreshold;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		StatementCounter.reset(warnThreshold > 0 ? warnThreshold : Integer.MAX_VALUE);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			// Requests that did not reach a handler are grouped under UNKNOWN
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+			int count = StatementCounter.count();
+			DistributionSummary.builder("hibernate.statements.per.request")
+					.description("SQL statements executed per HTTP request").baseUnit("statements").tag("uri", uri)
+					.publishPercentileHistogram().register(meterRegistry).record(count);
+
+			if (warnThreshold > 0 && count > warnThreshold) {
+				RepeatedStatement repeated = StatementCounter.mostRepeated();
+				logger.warn("{} {} executed {} SQL statements (threshold {}); past the threshold, repeated {} times: {}",
+						request.getMethod(), uri, count, warnThreshold, repeated.count(), repeated.sql());
+			}
+		}
+	}
+
+}
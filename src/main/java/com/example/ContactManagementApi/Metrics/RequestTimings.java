@@ -0,0 +1,162 @@
+package com.example.ContactManagementApi.Metrics;
+
+/**
+ * Accumulates how long the current request spent in each stage of the request
+ * path.
+ * 
+ * ServerTimingFilter binds an instance to the request thread only when the
+ * request is timed. The static start and stop methods are called from the hot
+ * path and cost a single thread-local read when no instance is bound; a timed
+ * request allocates one RequestTimings and its array of durations.
+ */
+public final class RequestTimings {
+
+	/**
+	 * The stages of a request, named as they appear in the Server-Timing header.
+	 */
+	public enum Stage {
+
+		// Parsing and verifying the JWT
+		JWT("jwt"),
+
+		// Loading the user named in the JWT
+		USER("user"),
+
+		// Time spent in repository calls, including those made while loading the user
+		DB("db"),
+
+		// The controller method, excluding the serialization of its response
+		HANDLER("handler"),
+
+		// Writing the response body
+		SERIALIZATION("serialize");
+
+		private final String metricName;
+
+		Stage(String metricName) {
+			this.metricName = metricName;
+		}
+
+		public String metricName() {
+			return metricName;
+		}
+
+	}
+
+	private static final Stage[] STAGES = Stage.values();
+
+	// The timings of the request running on each thread, if it is timed
+	private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+	// Accumulated nanoseconds per stage, indexed by ordinal
+	private final long[] durations = new long[STAGES.length];
+
+	// The stage started with begin and its start time
+	private Stage running;
+
+	private long runningSince;
+
+	/**
+	 * Returns the current time if the request on this thread is timed, and 0
+	 * otherwise.
+	 */
+	public static long start() {
+		return CURRENT.get() != null ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Adds the time since the given start to a stage of the request on this
+	 * thread. Does nothing when start returned 0.
+	 */
+	public static void stop(Stage stage, long start) {
+		if (start != 0L) {
+			RequestTimings timings = CURRENT.get();
+			if (timings != null) {
+				timings.durations[stage.ordinal()] += System.nanoTime() - start;
+			}
+		}
+	}
+
+	/**
+	 * Returns the timings of the request on this thread, or null if it is not
+	 * timed.
+	 */
+	public static RequestTimings current() {
+		return CURRENT.get();
+	}
+
+	static void bind(RequestTimings timings) {
+		CURRENT.set(timings);
+	}
+
+	static void unbind() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Ends the running stage, if any, and starts the given one. Used for stages
+	 * whose start and end are observed in different callbacks.
+	 */
+	public void begin(Stage stage) {
+		long now = System.nanoTime();
+		endRunning(now);
+		running = stage;
+		runningSince = now;
+	}
+
+	/**
+	 * Ends the stage started with begin, if it is still running.
+	 */
+	public void end() {
+		endRunning(System.nanoTime());
+	}
+
+	/**
+	 * Returns the accumulated duration of a stage in nanoseconds.
+	 */
+	public long duration(Stage stage) {
+		return durations[stage.ordinal()];
+	}
+
+	/**
+	 * Formats the stages that took time, followed by the total, as a
+	 * Server-Timing header value with durations in milliseconds.
+	 */
+	String toServerTiming(long totalNanos) {
+		StringBuilder header = new StringBuilder(128);
+		for (Stage stage : STAGES) {
+			if (durations[stage.ordinal()] > 0) {
+				appendMillis(header.append(stage.metricName()).append(";dur="), durations[stage.ordinal()]).append(", ");
+			}
+		}
+		return appendMillis(header.append("total;dur="), totalNanos).toString();
+	}
+
+	/**
+	 * Appends every stage as a key=value pair with its duration in milliseconds,
+	 * for the structured request log line.
+	 */
+	StringBuilder appendTo(StringBuilder line) {
+		for (Stage stage : STAGES) {
+			appendMillis(line.append(' ').append(stage.metricName()).append("_ms="), durations[stage.ordinal()]);
+		}
+		return line;
+	}
+
+	private void endRunning(long now) {
+		if (running != null) {
+			durations[running.ordinal()] += now - runningSince;
+			running = null;
+		}
+	}
+
+	// Appends nanoseconds as milliseconds with two decimals, without formatting
+	// through String.format
+	static StringBuilder appendMillis(StringBuilder builder, long nanos) {
+		long hundredths = nanos / 10_000;
+		builder.append(hundredths / 100).append('.');
+		long fraction = hundredths % 100;
+		return builder.append(fraction < 10 ? "0" : "").append(fraction);
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.example.ContactManagementApi.Metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import com.example.ContactManagementApi.Metrics.RequestTimings.Stage;
+
+/**
+ * Ends the handler stage of a timed request and starts the serialization stage
+ * just before the message converter writes the response body.
+ */
+@ControllerAdvice
+public class SerializationTimingAdvice implements ResponseBodyAdvice<Object> {
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		RequestTimings timings = RequestTimings.current();
+		if (timings != null) {
+			timings.begin(Stage.SERIALIZATION);
+		}
+		return body;
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.example.ContactManagementApi.Metrics;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter that times the stages of a request and reports them in a
+ * Server-Timing response header and in a sampled log line.
+ * 
+ * A request is timed only when the header is enabled or the request is picked
+ * for logging; otherwise the filter passes it on untouched. The response body
+ * is buffered when the header is enabled, so the header can be set after the
+ * body has been serialized; the change stream, and any request that accepts
+ * server-sent events, are not timed with the header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+	// The endpoint that streams server-sent events whatever the Accept header
+	private static final String EVENT_STREAM_PATH = "/api/changes/stream";
+
+	// Injects the settings that can be toggled at runtime
+	@Autowired
+	private ServerTimingProperties properties;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		// Event streams are never buffered, as each event must reach the client
+		// when it is sent
+		boolean header = properties.isEnabled() && !isEventStream(request);
+		double sampleRate = properties.getLogSampleRate();
+		boolean log = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+		if (!header && !log) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		RequestTimings timings = new RequestTimings();
+		ContentCachingResponseWrapper bufferedResponse = header ? new ContentCachingResponseWrapper(response) : null;
+		long start = System.nanoTime();
+		RequestTimings.bind(timings);
+		try {
+			filterChain.doFilter(request, header ? bufferedResponse : response);
+		} finally {
+			RequestTimings.unbind();
+			timings.end();
+			long total = System.nanoTime() - start;
+			if (header) {
+				bufferedResponse.setHeader("Server-Timing", timings.toServerTiming(total));
+				bufferedResponse.copyBodyToResponse();
+			}
+			if (log) {
+				log(request, response, timings, total);
+			}
+		}
+	}
+
+	private static boolean isEventStream(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		String accept = request.getHeader(HttpHeaders.ACCEPT);
+		return path.equals(EVENT_STREAM_PATH)
+				|| accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+	}
+
+	// Logs the stage durations as key=value pairs
+	private void log(HttpServletRequest request, HttpServletResponse response, RequestTimings timings, long total) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		StringBuilder line = new StringBuilder(256).append("server_timing method=").append(request.getMethod())
+				.append(" uri=").append(pattern != null ? pattern : "UNKNOWN").append(" status=")
+				.append(response.getStatus());
+		RequestTimings.appendMillis(timings.appendTo(line).append(" total_ms="), total);
+		logger.info(line.toString());
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.example.ContactManagementApi.Metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for per-request stage timing, bound from the
+ * app.server-timing prefix.
+ * 
+ * Both settings can be changed at runtime through /api/admin/server-timing,
+ * so they are volatile.
+ */
+@ConfigurationProperties("app.server-timing")
+public class ServerTimingProperties {
+
+	/**
+	 * Whether responses carry a Server-Timing header with the stage durations.
+	 */
+	private volatile boolean enabled;
+
+	/**
+	 * The fraction of requests, between 0 and 1, whose stage durations are
+	 * logged.
+	 */
+	private volatile double logSampleRate;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public double getLogSampleRate() {
+		return logSampleRate;
+	}
+
+	public void setLogSampleRate(double logSampleRate) {
+		if (logSampleRate < 0 || logSampleRate > 1) {
+			throw new IllegalArgumentException("The log sample rate must be between 0 and 1");
+		}
+		this.logSampleRate = logSampleRate;
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.example.ContactManagementApi.Metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector that counts the SQL statements prepared on the
+ * current thread, in total and per distinct statement.
+ * 
+ * It is registered through the hibernate.session_factory.statement_inspector
+ * property and leaves every statement unchanged. RequestMetricsFilter resets
+ * the count at the start of each request and records it at the end. Hibernate
+ * renders parameters as placeholders, so the same statement repeated with
+ * different values (the signature of an N+1 query) shows up as one SQL string
+ * with a high count.
+ * 
+ * Counting per distinct statement costs a map lookup on the full SQL string,
+ * so requests only do it for the statements past their warn threshold, where
+ * the repeated statement of an N+1 query still dominates.
+ */
+public class StatementCounter implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * A statement and the number of times it was prepared since the last reset.
+	 */
+	public record RepeatedStatement(String sql, int count) {
+	}
+
+	// Statements prepared on each thread since the last reset
+	private static final ThreadLocal<Statements> STATEMENTS = ThreadLocal.withInitial(Statements::new);
+
+	@Override
+	public String inspect(String sql) {
+		Statements statements = STATEMENTS.get();
+		if (++statements.total > statements.detailAfter) {
+			statements.bySql.computeIfAbsent(sql, key -> new int[1])[0]++;
+		}
+		return sql;
+	}
+
+	/**
+	 * Resets the statement count of the current thread, counting every statement
+	 * per distinct SQL string.
+	 */
+	public static void reset() {
+		reset(0);
+	}
+
+	/**
+	 * Resets the statement count of the current thread, counting only the
+	 * statements after the first detailAfter per distinct SQL string.
+	 */
+	public static void reset(int detailAfter) {
+		Statements statements = STATEMENTS.get();
+		statements.total = 0;
+		statements.detailAfter = detailAfter;
+		statements.bySql.clear();
+	}
+
+	/**
+	 * Returns the number of statements prepared on the current thread since the
+	 * last reset.
+	 */
+	public static int count() {
+		return STATEMENTS.get().total;
+	}
+
+	/**
+	 * Returns the statement prepared most often on the current thread since the
+	 * last reset, among those counted per SQL string, or null if there are none.
+	 */
+	public static RepeatedStatement mostRepeated() {
+		RepeatedStatement mostRepeated = null;
+		for (Map.Entry<String, int[]> entry : STATEMENTS.get().bySql.entrySet()) {
+			if (mostRepeated == null || entry.getValue()[0] > mostRepeated.count()) {
+				mostRepeated = new RepeatedStatement(entry.getKey(), entry.getValue()[0]);
+			}
+		}
+		return mostRepeated;
+	}
+
+	/**
+	 * Returns how often each distinct statement was prepared on the current thread
+	 * since the last reset, among those counted per SQL string.
+	 */
+	public static Map<String, Integer> countsBySql() {
+		Map<String, Integer> counts = new HashMap<>();
+		STATEMENTS.get().bySql.forEach((sql, count) -> counts.put(sql, count[0]));
+		return counts;
+	}
+
+	// The per-thread counters
+	private static final class Statements {
+
+		private int total;
+
+		// The number of statements counted in total only
+		private int detailAfter;
+
+		private final Map<String, int[]> bySql = new HashMap<>();
+
+	}
+
+}
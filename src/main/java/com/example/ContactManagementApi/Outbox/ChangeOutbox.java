@@ -0,0 +1,65 @@
+package com.example.ContactManagementApi.Outbox;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.example.ContactManagementApi.Entity.ContactEvent;
+import com.example.ContactManagementApi.Enum.ChangeType;
+import com.example.ContactManagementApi.Repository.ContactEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The ChangeOutbox class records contact changes in the contact_event table,
+ * in the transaction of the write that made them, so an event is published if
+ * and only if its change was committed.
+ *
+ * Recording costs the write one insert. Once the transaction has committed, the
+ * OutboxRelay is woken up to publish the event without waiting for its next
+ * poll.
+ */
+@Component
+public class ChangeOutbox {
+
+	// Injects the repository the events are inserted with
+	@Autowired
+	private ContactEventRepository contactEventRepository;
+
+	// Injects the application's ObjectMapper, so payloads match the API responses
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// Injects the relay woken up after each commit
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	/**
+	 * Records a change in the current transaction, with the payload serialized as
+	 * JSON; fails if no transaction is active.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void record(String source, ChangeType type, Long contactId, Object payload) {
+		contactEventRepository.save(new ContactEvent(source, type, contactId, serialize(payload)));
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				outboxRelay.wakeUp();
+			}
+		});
+	}
+
+	private String serialize(Object payload) {
+		if (payload == null) {
+			return null;
+		}
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize the event payload", e);
+		}
+	}
+
+}
@@ -0,0 +1,280 @@
+package com.example.ContactManagementApi.Outbox;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.example.ContactManagementApi.Entity.ContactEvent;
+import com.example.ContactManagementApi.Exception.StreamFullException;
+import com.example.ContactManagementApi.Outbox.OutboxProperties.Stream;
+import com.example.ContactManagementApi.Repository.ContactEventRepository;
+import com.example.ContactManagementApi.response.ChangeEventResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * The ChangeStream class is the OutboxSink that sends the contact events to
+ * clients as server-sent events, named e.g. contacts.created, with the event's
+ * offset as the event ID.
+ *
+ * A client that reconnects with a Last-Event-ID is first sent the events it
+ * missed from the outbox table, then the new ones, so it sees every event
+ * exactly once. If the events it missed have been pruned, it is first sent a
+ * reset event and has to reload the contacts. Events published late are sent
+ * without an event ID, so they do not move the offset a client resumes after,
+ * and only reach the clients connected at the time. A client that missed more than
+ * half of app.outbox.stream.max-pending events is sent that many and
+ * disconnected, and continues after reconnecting.
+ *
+ * Each event is serialized once for all clients. Events are queued per client
+ * and written by a small pool of sender threads, so a slow client never holds
+ * up the relay or other clients; a client whose queue exceeds max-pending is
+ * disconnected. Idle connections get a comment every heartbeat interval.
+ * Connected clients are published in the outbox.stream.subscribers gauge,
+ * disconnected slow clients in the outbox.stream.dropped counter.
+ */
+@Component
+public class ChangeStream implements OutboxSink {
+
+	// Injects the stream limits
+	@Autowired
+	private OutboxProperties properties;
+
+	// Injects the repository the missed events are read with
+	@Autowired
+	private ContactEventRepository contactEventRepository;
+
+	// Injects the ObjectMapper to serialize each event once
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// Injects the registry the clients are published to
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+	// Keeps new clients from missing or repeating events published while they
+	// catch up
+	private final Object lock = new Object();
+
+	// The offset of the last event sent to the clients; guarded by the lock
+	private long publishedId;
+
+	private ScheduledExecutorService senders;
+
+	private Counter dropped;
+
+	/**
+	 * Starts the sender threads and the heartbeat once the settings have been
+	 * injected.
+	 */
+	@PostConstruct
+	void startSenders() {
+		Stream stream = properties.getStream();
+		AtomicInteger threads = new AtomicInteger();
+		senders = Executors.newScheduledThreadPool(stream.getSenderThreads(), runnable -> {
+			Thread thread = new Thread(runnable, "change-stream-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+		long interval = stream.getHeartbeat().toMillis();
+		senders.scheduleAtFixedRate(() -> subscribers.forEach(subscriber -> subscriber.offer(heartbeat)), interval,
+				interval, TimeUnit.MILLISECONDS);
+
+		Gauge.builder("outbox.stream.subscribers", subscribers, Set::size)
+				.description("Clients connected to the change stream").register(meterRegistry);
+		dropped = Counter.builder("outbox.stream.dropped")
+				.description("Change stream clients disconnected for falling behind").register(meterRegistry);
+	}
+
+	/**
+	 * Disconnects the clients before the application stops.
+	 */
+	@PreDestroy
+	void stop() {
+		subscribers.forEach(subscriber -> subscriber.emitter.complete());
+		senders.shutdownNow();
+	}
+
+	@Override
+	public void start(long offset) {
+		synchronized (lock) {
+			publishedId = offset;
+		}
+	}
+
+	@Override
+	public void publish(List<ContactEvent> events) {
+		synchronized (lock) {
+			for (ContactEvent event : events) {
+				// Events repeated after another sink failed were sent already
+				if (event.getId() <= publishedId) {
+					continue;
+				}
+				Set<DataWithMediaType> frame = frame(event, true);
+				subscribers.forEach(subscriber -> subscriber.offer(frame));
+				publishedId = event.getId();
+			}
+		}
+	}
+
+	@Override
+	public void publishLate(List<ContactEvent> events) {
+		synchronized (lock) {
+			for (ContactEvent event : events) {
+				Set<DataWithMediaType> frame = frame(event, false);
+				subscribers.forEach(subscriber -> subscriber.offer(frame));
+			}
+		}
+	}
+
+	/**
+	 * Connects a client, sending it the events after lastEventId first if given.
+	 */
+	public SseEmitter subscribe(Long lastEventId) {
+		Stream stream = properties.getStream();
+		if (subscribers.size() >= stream.getMaxSubscribers()) {
+			throw new StreamFullException("The change stream has " + subscribers.size() + " clients connected");
+		}
+
+		SseEmitter emitter = new SseEmitter(stream.getTimeout().toMillis());
+		Subscriber subscriber = new Subscriber(emitter);
+		emitter.onCompletion(() -> subscribers.remove(subscriber));
+		emitter.onTimeout(emitter::complete); // Ends the stream; the client reconnects
+		emitter.onError(error -> subscribers.remove(subscriber));
+		synchronized (lock) {
+			if (lastEventId != null && lastEventId < publishedId) {
+				long earliestId = contactEventRepository.findEarliestId();
+				if (earliestId > lastEventId + 1) {
+					subscriber.offer(SseEmitter.event().name("reset").data(Long.toString(earliestId)).build());
+				}
+				// Leaves room in the queue for the reset event and the events published
+				// meanwhile
+				int room = stream.getMaxPending() / 2;
+				List<ContactEvent> missed = contactEventRepository.findByIdGreaterThanOrderByIdAsc(lastEventId,
+						Limit.of(room));
+				for (ContactEvent event : missed) {
+					if (event.getId() <= publishedId) {
+						subscriber.offer(frame(event, true));
+					}
+				}
+				if (missed.size() == room && missed.get(room - 1).getId() < publishedId) {
+					subscriber.closeWhenSent();
+					return emitter;
+				}
+			}
+			subscribers.add(subscriber);
+		}
+		return emitter;
+	}
+
+	// Serializes an event, with its offset as the event ID unless it is late; the
+	// data always carries the offset
+	private Set<DataWithMediaType> frame(ContactEvent event, boolean withId) {
+		try {
+			SseEmitter.SseEventBuilder builder = SseEmitter.event();
+			if (withId) {
+				builder.id(Long.toString(event.getId()));
+			}
+			return builder.name(event.getSource() + "." + event.getType().name().toLowerCase())
+					.data(objectMapper.writeValueAsString(ChangeEventResponse.from(event))).build();
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize the contact event " + event.getId(), e);
+		}
+	}
+
+	/**
+	 * A connected client with the events waiting to be sent to it.
+	 */
+	private final class Subscriber {
+
+		private final SseEmitter emitter;
+
+		private final ConcurrentLinkedQueue<Set<DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		// Whether a sender thread is writing to the client
+		private final AtomicBoolean sending = new AtomicBoolean();
+
+		private volatile boolean closeWhenSent;
+
+		private volatile boolean closed;
+
+		Subscriber(SseEmitter emitter) {
+			this.emitter = emitter;
+		}
+
+		void offer(Set<DataWithMediaType> frame) {
+			if (closed) {
+				return;
+			}
+			if (size.incrementAndGet() > properties.getStream().getMaxPending()) {
+				dropped.increment();
+				close();
+				return;
+			}
+			pending.add(frame);
+			schedule();
+		}
+
+		void closeWhenSent() {
+			closeWhenSent = true;
+			schedule();
+		}
+
+		private void schedule() {
+			if (sending.compareAndSet(false, true)) {
+				senders.execute(this::send);
+			}
+		}
+
+		private void send() {
+			try {
+				Set<DataWithMediaType> frame;
+				while (!closed && (frame = pending.poll()) != null) {
+					size.decrementAndGet();
+					emitter.send(frame);
+				}
+				if (closeWhenSent && pending.isEmpty()) {
+					close();
+				}
+			} catch (IOException | IllegalStateException e) {
+				// The client has disconnected
+				closed = true;
+				subscribers.remove(this);
+			} finally {
+				sending.set(false);
+				if (!closed && (!pending.isEmpty() || closeWhenSent)) {
+					schedule();
+				}
+			}
+		}
+
+		private void close() {
+			closed = true;
+			subscribers.remove(this);
+			emitter.complete();
+		}
+
+	}
+
+}
@@ -0,0 +1,179 @@
+package com.example.ContactManagementApi.Outbox;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for relaying the contact event outbox and streaming
+ * it to clients, bound from the app.outbox prefix.
+ */
+@ConfigurationProperties("app.outbox")
+public class OutboxProperties {
+
+	/**
+	 * Whether this instance publishes the events; they are recorded regardless.
+	 */
+	private boolean relayEnabled = true;
+
+	/**
+	 * How often the relay looks for events when no local write woke it up, which
+	 * bounds the delay of events written by other instances.
+	 */
+	private Duration pollInterval = Duration.ofSeconds(1);
+
+	/**
+	 * The most events read and published at once.
+	 */
+	private int batchSize = 500;
+
+	/**
+	 * How long the relay waits for a missing offset, whose transaction may still
+	 * commit, before it publishes the events after it.
+	 */
+	private Duration gapTimeout = Duration.ofSeconds(5);
+
+	/**
+	 * How long published events are kept for consumers to resume from.
+	 */
+	private Duration retention = Duration.ofDays(7);
+
+	/**
+	 * How often events older than the retention are deleted.
+	 */
+	private Duration pruneInterval = Duration.ofHours(1);
+
+	/**
+	 * The settings of the server-sent events stream.
+	 */
+	private Stream stream = new Stream();
+
+	public boolean isRelayEnabled() {
+		return relayEnabled;
+	}
+
+	public void setRelayEnabled(boolean relayEnabled) {
+		this.relayEnabled = relayEnabled;
+	}
+
+	public Duration getPollInterval() {
+		return pollInterval;
+	}
+
+	public void setPollInterval(Duration pollInterval) {
+		this.pollInterval = pollInterval;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public Duration getGapTimeout() {
+		return gapTimeout;
+	}
+
+	public void setGapTimeout(Duration gapTimeout) {
+		this.gapTimeout = gapTimeout;
+	}
+
+	public Duration getRetention() {
+		return retention;
+	}
+
+	public void setRetention(Duration retention) {
+		this.retention = retention;
+	}
+
+	public Duration getPruneInterval() {
+		return pruneInterval;
+	}
+
+	public void setPruneInterval(Duration pruneInterval) {
+		this.pruneInterval = pruneInterval;
+	}
+
+	public Stream getStream() {
+		return stream;
+	}
+
+	public void setStream(Stream stream) {
+		this.stream = stream;
+	}
+
+	/**
+	 * The limits of the server-sent events stream.
+	 */
+	public static class Stream {
+
+		/**
+		 * The most clients connected at once.
+		 */
+		private int maxSubscribers = 100;
+
+		/**
+		 * The most events waiting to be sent to one client; a client that falls
+		 * further behind is disconnected and resumes from its last event.
+		 */
+		private int maxPending = 1000;
+
+		/**
+		 * How long a connection is kept open before the client has to reconnect.
+		 */
+		private Duration timeout = Duration.ofMinutes(30);
+
+		/**
+		 * How often a comment is sent to keep idle connections open.
+		 */
+		private Duration heartbeat = Duration.ofSeconds(15);
+
+		/**
+		 * The threads writing events to the clients.
+		 */
+		private int senderThreads = 2;
+
+		public int getMaxSubscribers() {
+			return maxSubscribers;
+		}
+
+		public void setMaxSubscribers(int maxSubscribers) {
+			this.maxSubscribers = maxSubscribers;
+		}
+
+		public int getMaxPending() {
+			return maxPending;
+		}
+
+		public void setMaxPending(int maxPending) {
+			this.maxPending = maxPending;
+		}
+
+		public Duration getTimeout() {
+			return timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		public Duration getHeartbeat() {
+			return heartbeat;
+		}
+
+		public void setHeartbeat(Duration heartbeat) {
+			this.heartbeat = heartbeat;
+		}
+
+		public int getSenderThreads() {
+			return senderThreads;
+		}
+
+		public void setSenderThreads(int senderThreads) {
+			this.senderThreads = senderThreads;
+		}
+
+	}
+
+}
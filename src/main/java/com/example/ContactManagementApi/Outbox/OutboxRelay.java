@@ -0,0 +1,254 @@
+package com.example.ContactManagementApi.Outbox;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import com.example.ContactManagementApi.Entity.ContactEvent;
+import com.example.ContactManagementApi.Repository.ContactEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * The OutboxRelay class publishes the contact events to the OutboxSinks.
+ *
+ * A single background thread reads the events after the last offset it
+ * published, up to app.outbox.batch-size at a time, and hands each batch to
+ * every sink. It runs when a local write commits and otherwise every
+ * app.outbox.poll-interval, for the writes of other instances. Every instance
+ * relays all events to its own sinks, starting with the events written after it
+ * became ready.
+ *
+ * Offsets are assigned when an event is inserted, so a transaction that has
+ * not committed yet leaves a gap before the offsets of later transactions. The
+ * relay stops at a gap until app.outbox.gap-timeout has passed since the event
+ * after it was written, and then skips it as probably rolled back. The skipped
+ * offsets are kept in memory and checked again every poll interval for
+ * app.outbox.retention, so a transaction that commits after all is published
+ * late rather than lost. Published events older than the retention are deleted
+ * every app.outbox.prune-interval.
+ *
+ * Events are counted in the outbox.events.relayed counter, skipped offsets in
+ * outbox.gaps.skipped and those published late in outbox.gaps.filled.
+ */
+@Component
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxRelay {
+
+	private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+	// Injects the batch size, intervals and retention
+	@Autowired
+	private OutboxProperties properties;
+
+	// Injects the repository the events are read and pruned with
+	@Autowired
+	private ContactEventRepository contactEventRepository;
+
+	// Injects every sink the events are published to
+	@Autowired
+	private List<OutboxSink> sinks;
+
+	// Injects the registry the events are counted in
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// Released by committed writes to run the relay before its next poll
+	private final Semaphore wakeUps = new Semaphore(0);
+
+	// The offset of the last event published; only used by the relay thread
+	private long relayedId;
+
+	private long nextPrune;
+
+	// The skipped offsets, with when they were skipped in epoch millis; only used
+	// by the relay thread
+	private final TreeMap<Long, Long> skippedIds = new TreeMap<>();
+
+	private long nextRecheck;
+
+	private Counter relayed;
+
+	private Counter skipped;
+
+	private Counter filled;
+
+	private volatile Thread thread;
+
+	/**
+	 * Registers the counters.
+	 */
+	@PostConstruct
+	void registerMeters() {
+		relayed = Counter.builder("outbox.events.relayed").description("Contact events published to the sinks")
+				.register(meterRegistry);
+		skipped = Counter.builder("outbox.gaps.skipped").description("Offsets skipped as rolled back")
+				.register(meterRegistry);
+		filled = Counter.builder("outbox.gaps.filled").description("Skipped offsets published after they committed")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Starts relaying the events written from now on once the application is
+	 * ready.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void start() {
+		if (!properties.isRelayEnabled()) {
+			return;
+		}
+		relayedId = contactEventRepository.findLatestId();
+		nextPrune = System.nanoTime();
+		nextRecheck = System.nanoTime();
+		sinks.forEach(sink -> sink.start(relayedId));
+		Thread relay = new Thread(this::run, "outbox-relay");
+		relay.setDaemon(true);
+		thread = relay;
+		relay.start();
+	}
+
+	/**
+	 * Stops the relay thread before the application stops.
+	 */
+	@PreDestroy
+	void stop() throws InterruptedException {
+		Thread relay = thread;
+		thread = null;
+		if (relay != null) {
+			relay.interrupt();
+			relay.join(TimeUnit.SECONDS.toMillis(5));
+		}
+	}
+
+	/**
+	 * Runs the relay as soon as possible, e.g. after a write has committed.
+	 */
+	public void wakeUp() {
+		if (thread != null) {
+			wakeUps.release();
+		}
+	}
+
+	private void run() {
+		while (thread != null) {
+			try {
+				relayAvailable();
+				relayLateIfDue();
+				pruneIfDue();
+			} catch (RuntimeException e) {
+				logger.warn("Could not relay the contact events after offset {}", relayedId, e);
+			}
+			try {
+				wakeUps.tryAcquire(properties.getPollInterval().toNanos(), TimeUnit.NANOSECONDS);
+				wakeUps.drainPermits();
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+
+	// Publishes the events after the relayed offset, one batch at a time, up to
+	// the first gap that may still be filled
+	private void relayAvailable() {
+		int batchSize = properties.getBatchSize();
+		while (true) {
+			List<ContactEvent> batch = contactEventRepository.findByIdGreaterThanOrderByIdAsc(relayedId,
+					Limit.of(batchSize));
+			long gapCutoff = System.currentTimeMillis() - properties.getGapTimeout().toMillis();
+			List<ContactEvent> ready = new ArrayList<>(batch.size());
+			long expected = relayedId + 1;
+			List<long[]> gaps = new ArrayList<>();
+			for (ContactEvent event : batch) {
+				if (event.getId() != expected) {
+					if (event.getCreatedAt().getTime() > gapCutoff) {
+						break;
+					}
+					gaps.add(new long[] { expected, event.getId() - 1 });
+				}
+				ready.add(event);
+				expected = event.getId() + 1;
+			}
+			if (ready.isEmpty()) {
+				return;
+			}
+
+			// A failing sink leaves the offset unchanged, so the batch is retried
+			for (OutboxSink sink : sinks) {
+				sink.publish(ready);
+			}
+			relayedId = ready.get(ready.size() - 1).getId();
+			relayed.increment(ready.size());
+			long now = System.currentTimeMillis();
+			for (long[] gap : gaps) {
+				logger.warn("Skipped the contact event offsets {} to {}, which have not committed after {}", gap[0],
+						gap[1], properties.getGapTimeout());
+				for (long id = gap[0]; id <= gap[1]; id++) {
+					skippedIds.put(id, now);
+				}
+				skipped.increment(gap[1] - gap[0] + 1);
+			}
+			if (ready.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	// Publishes the skipped events that have committed since, at most once per
+	// poll interval, and forgets the offsets skipped more than the retention ago
+	private void relayLateIfDue() {
+		long now = System.nanoTime();
+		if (skippedIds.isEmpty() || now - nextRecheck < 0) {
+			return;
+		}
+		nextRecheck = now + properties.getPollInterval().toNanos();
+		long expired = System.currentTimeMillis() - properties.getRetention().toMillis();
+		skippedIds.values().removeIf(skippedAt -> skippedAt < expired);
+
+		List<Long> ids = new ArrayList<>(skippedIds.keySet());
+		int batchSize = properties.getBatchSize();
+		for (int from = 0; from < ids.size(); from += batchSize) {
+			List<ContactEvent> late = contactEventRepository
+					.findByIdInOrderByIdAsc(ids.subList(from, Math.min(ids.size(), from + batchSize)));
+			if (late.isEmpty()) {
+				continue;
+			}
+			// A failing sink leaves the offsets skipped, so they are retried
+			for (OutboxSink sink : sinks) {
+				sink.publishLate(late);
+			}
+			for (ContactEvent event : late) {
+				skippedIds.remove(event.getId());
+				logger.info("Published the contact event {} after its offset was skipped", event.getId());
+			}
+			filled.increment(late.size());
+		}
+	}
+
+	// Deletes the published events older than the retention, at most once per
+	// prune interval
+	private void pruneIfDue() {
+		long now = System.nanoTime();
+		if (now - nextPrune < 0) {
+			return;
+		}
+		nextPrune = now + properties.getPruneInterval().toNanos();
+		Date cutoff = new Date(System.currentTimeMillis() - properties.getRetention().toMillis());
+		int deleted = contactEventRepository.deleteUpToIdCreatedBefore(relayedId, cutoff);
+		if (deleted > 0) {
+			logger.info("Deleted {} contact events older than {}", deleted, properties.getRetention());
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.example.ContactManagementApi.Outbox;
+
+import java.util.List;
+import com.example.ContactManagementApi.Entity.ContactEvent;
+
+/**
+ * Receives the contact events published by the OutboxRelay. Every bean
+ * implementing this interface is a sink, e.g. the ChangeStream or a message
+ * broker producer.
+ *
+ * Events arrive in offset order, on the relay thread only. If any sink throws,
+ * the relay publishes the batch to all sinks again on its next run, so sinks
+ * must ignore events whose offset they have seen. The exception are the events
+ * whose offsets the relay skipped as rolled back and which committed later:
+ * they are published on their own, out of order, through publishLate. Events
+ * that commit more than app.outbox.retention after being skipped, or while the
+ * relay is not running, are not published.
+ */
+public interface OutboxSink {
+
+	/**
+	 * Called once with the offset the relay starts after; earlier events are
+	 * only available by reading the outbox.
+	 */
+	default void start(long offset) {
+	}
+
+	/**
+	 * Publishes a batch of events.
+	 */
+	void publish(List<ContactEvent> events);
+
+	/**
+	 * Publishes events that committed after their offsets were skipped, in offset
+	 * order among themselves but before offsets published already. Passes them to
+	 * publish by default, for sinks that do not ignore earlier offsets.
+	 */
+	default void publishLate(List<ContactEvent> events) {
+		publish(events);
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.example.ContactManagementApi.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import com.example.ContactManagementApi.Entity.ContactEvent;
+
+/**
+ * The ContactEventRepository interface provides the mechanism for writing and
+ * reading the contact event outbox. It extends JpaRepository to leverage its
+ * built-in methods.
+ */
+@Repository
+public interface ContactEventRepository extends JpaRepository<ContactEvent, Long> {
+
+	// Finds the events after the given offset, oldest first.
+	List<ContactEvent> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+	// Finds the events with the given offsets, oldest first.
+	List<ContactEvent> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+	// Finds the offset of the newest event, or 0 if there is none.
+	@Query("select coalesce(max(e.id), 0) from ContactEvent e")
+	long findLatestId();
+
+	// Finds the offset of the oldest event still kept, or 0 if there is none.
+	@Query("select coalesce(min(e.id), 0) from ContactEvent e")
+	long findEarliestId();
+
+	// Deletes the events up to the given offset that were created before the cutoff.
+	@Modifying
+	@Transactional
+	@Query("delete from ContactEvent e where e.id <= :id and e.createdAt < :cutoff")
+	int deleteUpToIdCreatedBefore(@Param("id") long id, @Param("cutoff") Date cutoff);
+
+}
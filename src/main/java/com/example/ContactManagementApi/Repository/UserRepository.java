@@ -1,9 +1,17 @@
 package com.example.ContactManagementApi.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.example.ContactManagementApi.Entity.User;
+import com.example.ContactManagementApi.Enum.RoleEnum;
 
 /**
  * The UserRepository interface provides the mechanism for CRUD operations on
@@ -13,7 +21,24 @@ import com.example.ContactManagementApi.Entity.User;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-	// Retrieves a User by their username.
+	// Retrieves a User by their username. Read-only so that the per-request
+	// lookup can be served by a read replica.
+	@Transactional(readOnly = true)
 	Optional<User> findByUsername(String username);
 
+	// Checks whether a User with the given username exists.
+	boolean existsByUsername(String username);
+
+	// Retrieves the User with the lowest identifier that has the given role.
+	Optional<User> findFirstByRolesNameOrderByIdAsc(RoleEnum name);
+
+	// Retrieves one page of User identifiers.
+	@Query("select u.id from User u")
+	Page<Long> findPageOfIds(Pageable pageable);
+
+	// Retrieves the Users with the given identifiers, fetching their roles in the
+	// same query.
+	@EntityGraph(attributePaths = "roles")
+	List<User> findWithRolesByIdIn(Collection<Long> ids);
+
 }
@@ -11,6 +11,8 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
+import com.example.ContactManagementApi.Metrics.RequestTimings;
+import com.example.ContactManagementApi.Metrics.RequestTimings.Stage;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +23,8 @@ import jakarta.servlet.http.HttpServletResponse;
  * 
  * This filter processes each request and checks for the presence of a JWT token
  * in the Authorization header. If a valid token is found, it authenticates the
- * user.
+ * user. Token verification and user loading are recorded as the jwt and user
+ * stages of timed requests.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -60,17 +63,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		try {
 			// Extract the JWT from the Authorization header
 			final String jwt = authHeader.substring(7);
+			long jwtStart = RequestTimings.start();
 			final String username = jwtUtils.getUsernameFromtoken(jwt); // Get the username from the token
+			RequestTimings.stop(Stage.JWT, jwtStart);
 
 			Authentication authentication = SecurityContextHolder.getContext().getAuthentication(); // Retrieve current
 																									// authentication
 
 			// If the username is valid and no authentication exists, authenticate the user
 			if (username != null && authentication == null) {
+				long userStart = RequestTimings.start();
 				UserDetails userDetails = this.userDetailsService.loadUserByUsername(username); // Load user details
+				RequestTimings.stop(Stage.USER, userStart);
 
 				// Validate the JWT token
-				if (jwtUtils.isTokenValid(jwt, userDetails)) {
+				jwtStart = RequestTimings.start();
+				boolean tokenValid = jwtUtils.isTokenValid(jwt, userDetails);
+				RequestTimings.stop(Stage.JWT, jwtStart);
+				if (tokenValid) {
 					// Create authentication token and set it in the SecurityContext
 					UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
 							null, userDetails.getAuthorities());
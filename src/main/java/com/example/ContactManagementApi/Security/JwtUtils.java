@@ -5,19 +5,26 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 
 /**
  * Utility class for managing JWT (JSON Web Tokens) operations.
  * 
  * This class provides methods for generating JWTs, validating them, and
  * extracting information such as expiration date and username from the token.
+ * Signing and parsing (which includes signature verification) are recorded in
+ * the jwt.sign and jwt.parse timers.
  */
 @Component
 public class JwtUtils {
@@ -31,6 +38,27 @@ public class JwtUtils {
 	@Value("${security.jwt.expiration-time}")
 	private long jwtExpiration;
 
+	// Injects the registry the JWT timers are published to
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// Time spent signing new tokens
+	private Timer signTimer;
+
+	// Time spent parsing and verifying tokens
+	private Timer parseTimer;
+
+	/**
+	 * Registers the JWT timers once the meter registry has been injected.
+	 */
+	@PostConstruct
+	void registerTimers() {
+		signTimer = Timer.builder("jwt.sign").description("Time spent signing JWTs").publishPercentileHistogram()
+				.register(meterRegistry);
+		parseTimer = Timer.builder("jwt.parse").description("Time spent parsing and verifying JWTs")
+				.publishPercentileHistogram().register(meterRegistry);
+	}
+
 	/**
 	 * Generates a JWT token based on user details.
 	 */
@@ -47,11 +75,12 @@ public class JwtUtils {
 	 * Creates a JWT token with the specified claims and user details.
 	 */
 	private String createToken(Map<String, Object> claims, UserDetails userDetails) {
-		return Jwts.builder().setClaims(claims).setSubject(userDetails.getUsername()) // Set the subject (username)
+		return signTimer.record(() -> Jwts.builder().setClaims(claims)
+				.setSubject(userDetails.getUsername()) // Set the subject (username)
 				.setIssuedAt(new Date(System.currentTimeMillis())) // Set the issued date
 				.setExpiration(new Date(System.currentTimeMillis() + jwtExpiration)) // Set the expiration date
 				.signWith(getSignKey(), SignatureAlgorithm.HS256) // Sign the token with the secret key
-				.compact(); // Build and return the token
+				.compact()); // Build and return the token
 	}
 
 	/**
@@ -81,19 +110,24 @@ public class JwtUtils {
 	 * Retrieves the expiration date from the given token.
 	 */
 	public Date getExpirationFromToken(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSignKey()) // Set the signing key for parsing
-				.build().parseClaimsJws(token) // Parse the JWT and retrieve claims
-				.getBody().getExpiration(); // Return the expiration date
+		return parseClaims(token).getExpiration(); // Return the expiration date
 	}
 
 	/**
 	 * Extracts the username from the given token.
 	 */
 	public String getUsernameFromtoken(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSignKey()) // Set the signing key for parsing
-				.build().parseClaimsJws(token) // Parse the JWT and retrieve claims
-				.getBody().getSubject(); // Return the subject (username)
+		return parseClaims(token).getSubject(); // Return the subject (username)
+	}
 
+	/**
+	 * Parses the given token, verifying its signature, and returns its claims.
+	 */
+	private Claims parseClaims(String token) {
+		return parseTimer.record(() -> Jwts.parserBuilder()
+				.setSigningKey(getSignKey()) // Set the signing key for parsing
+				.build().parseClaimsJws(token) // Parse the JWT and retrieve claims
+				.getBody());
 	}
 
 	/**
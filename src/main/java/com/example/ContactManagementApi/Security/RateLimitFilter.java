@@ -0,0 +1,116 @@
+package com.example.ContactManagementApi.Security;
+
+import java.io.IOException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.example.ContactManagementApi.Security.RateLimiter.Decision;
+import com.example.ContactManagementApi.Security.RateLimiter.EndpointClass;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter that limits the rate of requests per client, placed after the
+ * JwtAuthenticationFilter so the authenticated user is known.
+ *
+ * Signup and login requests are limited per client IP, all other requests per
+ * user (or per IP when no valid token was sent), separately for reads, writes
+ * and admin bulk requests. Batch lookups by ID are reads that cost one request
+ * per app.rate-limit.batch-ids-per-read IDs, so a batch is never charged more
+ * than the single lookups it replaces. Every limited response carries the
+ * RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset headers; rejected
+ * requests are answered with 429 Too Many Requests and a Retry-After header.
+ * Actuator endpoints are not limited.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	// Injects the RateLimiter holding the buckets
+	@Autowired
+	private RateLimiter rateLimiter;
+
+	// Injects the ObjectMapper to write the problem details of rejected requests
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		if (!rateLimiter.isEnabled() || path.startsWith("/actuator/")) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		EndpointClass endpointClass = classify(request.getMethod(), path);
+		int tokens = endpointClass == EndpointClass.READ && path.endsWith("/retrieve/batch")
+				? batchCost(request.getParameterValues("ids"))
+				: 1;
+		Decision decision = rateLimiter.acquire(endpointClass, client(request, endpointClass), tokens);
+		response.setHeader("RateLimit-Limit", Integer.toString(decision.limit()));
+		response.setHeader("RateLimit-Remaining", Long.toString(decision.remaining()));
+		response.setHeader("RateLimit-Reset", Long.toString(decision.resetSeconds()));
+		if (decision.allowed()) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		// Rejects the request before any user or database work is done
+		ProblemDetail errorDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, "Too many "
+				+ endpointClass.name().toLowerCase() + " requests, retry in " + decision.retryAfterSeconds() + "s");
+		errorDetail.setProperty("description", "The rate limit for this client has been exceeded");
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader("Retry-After", Long.toString(decision.retryAfterSeconds()));
+		response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), errorDetail);
+	}
+
+	// Assigns the request to the endpoint class whose limit applies
+	private static EndpointClass classify(String method, String path) {
+		if (path.startsWith("/api/auth/")) {
+			return EndpointClass.AUTH;
+		}
+		boolean read = method.equals("GET") || method.equals("HEAD") || method.equals("OPTIONS");
+		if (read && (path.equals("/api/contacts/retrieve") || path.equals("/api/duplicateContacts/retrieve")
+				|| path.equals("/users/all"))) {
+			return EndpointClass.BULK;
+		}
+		if (path.equals("/api/duplicateContacts/mergeDuplicates")) {
+			return EndpointClass.BULK;
+		}
+		return read ? EndpointClass.READ : EndpointClass.WRITE;
+	}
+
+	// Returns the read requests a batch lookup costs, one per started group of
+	// IDs, given as ?ids=1,2,3 or repeated parameters
+	private int batchCost(String[] values) {
+		int ids = 0;
+		if (values != null) {
+			for (String value : values) {
+				ids += value.split(",", -1).length;
+			}
+		}
+		int idsPerRead = Math.max(1, rateLimiter.getBatchIdsPerRead());
+		return Math.max(1, (ids + idsPerRead - 1) / idsPerRead);
+	}
+
+	// Identifies the client by username once authenticated, otherwise by IP
+	private static String client(HttpServletRequest request, EndpointClass endpointClass) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (endpointClass != EndpointClass.AUTH && authentication != null && authentication.isAuthenticated()
+				&& !(authentication instanceof AnonymousAuthenticationToken)) {
+			return "user:" + authentication.getName();
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+
+}
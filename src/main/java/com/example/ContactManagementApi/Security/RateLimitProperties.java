@@ -0,0 +1,142 @@
+package com.example.ContactManagementApi.Security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the per-user request limits, bound from the
+ * app.rate-limit prefix.
+ */
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+
+	/**
+	 * Whether requests are limited at all.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The most buckets kept in memory; beyond it idle buckets are dropped, and new
+	 * clients are limited while there are none.
+	 */
+	private int maxBuckets = 100_000;
+
+	/**
+	 * The limit of signup and login requests per client IP.
+	 */
+	private Limit auth = new Limit(10, Duration.ofMinutes(1));
+
+	/**
+	 * The limit of other GET requests per user.
+	 */
+	private Limit read = new Limit(100, Duration.ofSeconds(1));
+
+	/**
+	 * The limit of POST, PUT and DELETE requests per user.
+	 */
+	private Limit write = new Limit(20, Duration.ofSeconds(1));
+
+	/**
+	 * The limit of admin requests that read or rewrite whole tables, such as the
+	 * contact lists, the user list and merging duplicates, per user.
+	 */
+	private Limit bulk = new Limit(10, Duration.ofSeconds(10));
+
+	/**
+	 * How many IDs of a batch lookup cost one read request.
+	 */
+	private int batchIdsPerRead = 10;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxBuckets() {
+		return maxBuckets;
+	}
+
+	public void setMaxBuckets(int maxBuckets) {
+		this.maxBuckets = maxBuckets;
+	}
+
+	public Limit getAuth() {
+		return auth;
+	}
+
+	public void setAuth(Limit auth) {
+		this.auth = auth;
+	}
+
+	public Limit getRead() {
+		return read;
+	}
+
+	public void setRead(Limit read) {
+		this.read = read;
+	}
+
+	public Limit getWrite() {
+		return write;
+	}
+
+	public void setWrite(Limit write) {
+		this.write = write;
+	}
+
+	public Limit getBulk() {
+		return bulk;
+	}
+
+	public void setBulk(Limit bulk) {
+		this.bulk = bulk;
+	}
+
+	public int getBatchIdsPerRead() {
+		return batchIdsPerRead;
+	}
+
+	public void setBatchIdsPerRead(int batchIdsPerRead) {
+		this.batchIdsPerRead = batchIdsPerRead;
+	}
+
+	/**
+	 * A number of requests allowed per period; the whole number may be sent at
+	 * once, after which requests are allowed again at the average rate.
+	 */
+	public static class Limit {
+
+		private int requests;
+
+		private Duration period;
+
+		public Limit() {
+		}
+
+		public Limit(int requests, Duration period) {
+			this.requests = requests;
+			this.period = period;
+		}
+
+		public int getRequests() {
+			return requests;
+		}
+
+		public void setRequests(int requests) {
+			this.requests = requests;
+		}
+
+		public Duration getPeriod() {
+			return period;
+		}
+
+		public void setPeriod(Duration period) {
+			this.period = period;
+		}
+
+	}
+
+}
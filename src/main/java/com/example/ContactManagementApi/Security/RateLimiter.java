@@ -0,0 +1,204 @@
+package com.example.ContactManagementApi.Security;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import com.example.ContactManagementApi.Security.RateLimitProperties.Limit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * The RateLimiter class keeps one token bucket per client and endpoint class,
+ * and decides whether a request may proceed.
+ *
+ * A bucket is a single AtomicLong holding the time at which it will be full
+ * again; taking a token moves that time forward by one request's share of the
+ * period with a compare-and-set, so requests never wait on a lock, not even
+ * for different clients hashed to the same map bin. A bucket that is full is
+ * indistinguishable from a new one, so once app.rate-limit.max-buckets is
+ * reached the full buckets are dropped. If none is full, requests from new
+ * clients are rejected until the first bucket fills up, rather than resetting
+ * the clients that are being limited.
+ *
+ * Limits apply once the application is ready, so warm-up traffic sent to the
+ * local port before that is not counted. Rejections are counted in the
+ * ratelimit.rejected counter, tagged with the endpoint class.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiter {
+
+	/**
+	 * The groups of endpoints that share a limit.
+	 */
+	public enum EndpointClass {
+		AUTH, READ, WRITE, BULK
+	}
+
+	/**
+	 * The outcome of taking a token: whether the request may proceed, the limit,
+	 * the tokens left, the seconds until the bucket is full again and, for
+	 * rejected requests, the seconds until the next token.
+	 */
+	public record Decision(boolean allowed, int limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+	}
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	// Injects the configured limits
+	@Autowired
+	private RateLimitProperties properties;
+
+	// Injects the registry the rejections are counted in
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final ConcurrentHashMap<Key, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+	// Lets a single caller drop full buckets at a time
+	private final AtomicBoolean sweeping = new AtomicBoolean();
+
+	// When the map is full, the time the first bucket fills up; sweeping before
+	// that frees no room
+	private volatile long roomAt = System.nanoTime();
+
+	private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+
+	private volatile boolean ready;
+
+	/**
+	 * Registers the counters and the bucket gauge.
+	 */
+	@PostConstruct
+	void registerMeters() {
+		for (EndpointClass endpointClass : EndpointClass.values()) {
+			rejections.put(endpointClass,
+					Counter.builder("ratelimit.rejected").description("Requests rejected by the rate limiter")
+							.tag("class", endpointClass.name().toLowerCase()).register(meterRegistry));
+		}
+		Gauge.builder("ratelimit.buckets", buckets, Map::size).description("Rate limit buckets in memory")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Starts applying the limits once the application is ready.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void applicationReady() {
+		ready = true;
+	}
+
+	/**
+	 * Returns how many IDs of a batch lookup cost one read request.
+	 */
+	public int getBatchIdsPerRead() {
+		return properties.getBatchIdsPerRead();
+	}
+
+	/**
+	 * Returns whether requests are currently limited.
+	 */
+	public boolean isEnabled() {
+		return ready && properties.isEnabled();
+	}
+
+	/**
+	 * Takes a token from the bucket of the given client and endpoint class.
+	 */
+	public Decision acquire(EndpointClass endpointClass, String client) {
+		return acquire(endpointClass, client, 1);
+	}
+
+	/**
+	 * Takes the given number of tokens from the bucket of the given client and
+	 * endpoint class, at most as many as the bucket holds.
+	 */
+	public Decision acquire(EndpointClass endpointClass, String client, int tokens) {
+		Limit limit = limitOf(endpointClass);
+		long interval = Math.max(1, limit.getPeriod().toNanos() / limit.getRequests()); // One request's share
+		long burst = interval * limit.getRequests();
+		long cost = interval * Math.min(Math.max(tokens, 1), limit.getRequests());
+
+		long now = System.nanoTime();
+		AtomicLong fullAt = bucket(new Key(endpointClass, client), now);
+		if (fullAt == null) {
+			rejections.get(endpointClass).increment();
+			long retryAfter = Math.max(1, seconds(roomAt - now));
+			return new Decision(false, limit.getRequests(), 0, retryAfter, retryAfter);
+		}
+		while (true) {
+			long current = fullAt.get();
+			long next = (current - now > 0 ? current : now) + cost;
+			if (next - now > burst) {
+				rejections.get(endpointClass).increment();
+				return new Decision(false, limit.getRequests(), 0, seconds(current - now), seconds(next - burst - now));
+			}
+			if (fullAt.compareAndSet(current, next)) {
+				return new Decision(true, limit.getRequests(), (burst - (next - now)) / interval, seconds(next - now), 0);
+			}
+		}
+	}
+
+	private Limit limitOf(EndpointClass endpointClass) {
+		return switch (endpointClass) {
+		case AUTH -> properties.getAuth();
+		case READ -> properties.getRead();
+		case WRITE -> properties.getWrite();
+		case BULK -> properties.getBulk();
+		};
+	}
+
+	// Returns the bucket of the key, creating a full one when there is none, or
+	// null when there is no room for it
+	private AtomicLong bucket(Key key, long now) {
+		AtomicLong bucket = buckets.get(key);
+		if (bucket != null) {
+			return bucket;
+		}
+		if (buckets.size() >= properties.getMaxBuckets()) {
+			if (now - roomAt >= 0 && sweeping.compareAndSet(false, true)) {
+				try {
+					long firstFullAt = Long.MAX_VALUE;
+					for (Iterator<AtomicLong> iterator = buckets.values().iterator(); iterator.hasNext();) {
+						long fullAt = iterator.next().get();
+						if (fullAt - now <= 0) {
+							iterator.remove();
+						} else if (firstFullAt == Long.MAX_VALUE || fullAt - firstFullAt < 0) {
+							firstFullAt = fullAt;
+						}
+					}
+					roomAt = firstFullAt == Long.MAX_VALUE ? now : firstFullAt;
+				} finally {
+					sweeping.set(false);
+				}
+			}
+			if (buckets.size() >= properties.getMaxBuckets()) {
+				return null;
+			}
+		}
+		return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+	}
+
+	// Rounds a duration in nanoseconds up to whole seconds
+	private static long seconds(long nanos) {
+		return nanos <= 0 ? 0 : (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+	}
+
+	/**
+	 * Identifies a bucket by endpoint class and client, e.g. user:alice or
+	 * ip:203.0.113.7.
+	 */
+	private record Key(EndpointClass endpointClass, String client) {
+	}
+
+}
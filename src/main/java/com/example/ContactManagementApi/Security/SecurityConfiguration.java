@@ -10,6 +10,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 
 /**
  * SecurityConfiguration class is responsible for configuring the security
@@ -30,6 +31,10 @@ public class SecurityConfiguration {
 	@Autowired
 	private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+	// Injects Custom filter for limiting the request rate per user or client IP.
+	@Autowired
+	private RateLimitFilter rateLimitFilter;
+
 	/**
 	 * Configures the security filter chain for the application.
 	 */
@@ -40,6 +45,8 @@ public class SecurityConfiguration {
 				.authorizeHttpRequests(authz -> authz.requestMatchers("/api/auth/**").permitAll() // Permit all requests
 																									// to authentication
 																									// endpoints.
+						.requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll() // Health, probes and scraping.
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // Ends of event streams authorized when they began.
 						// .requestMatchers(HttpMethod.GET,"/users/all").hasRole("ADMIN")
 						.anyRequest().authenticated() // All other requests require authentication.
 				).sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS) // Use
@@ -48,6 +55,7 @@ public class SecurityConfiguration {
 																												// management.
 				).authenticationProvider(authenticationProvider) // Set the authentication provider.
 				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // Add JWT filter.
+				.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class) // Limit requests once the user is known.
 				.build(); // Build and return the security filter chain.
 	}
 
@@ -0,0 +1,21 @@
+package com.example.ContactManagementApi.Service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import com.example.ContactManagementApi.Service.Bulkheads.Pool;
+
+/**
+ * Marks a heavy service method that may only run while holding a permit of the
+ * given bulkhead, taken before its transaction starts.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+	Pool value();
+
+}
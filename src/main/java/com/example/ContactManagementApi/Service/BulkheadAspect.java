@@ -0,0 +1,35 @@
+package com.example.ContactManagementApi.Service;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspect that runs methods annotated with @Bulkhead while holding a permit of
+ * their bulkhead. It runs before the transaction interceptor, so a method
+ * waiting for a permit does not hold a database connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1) // Outside the transaction interceptor, which has the lowest precedence
+public class BulkheadAspect {
+
+	// Injects the bulkheads handing out the permits
+	@Autowired
+	private Bulkheads bulkheads;
+
+	@Around("@annotation(bulkhead)")
+	public Object runInBulkhead(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+		bulkheads.acquire(bulkhead.value());
+		try {
+			return joinPoint.proceed();
+		} finally {
+			bulkheads.release(bulkhead.value());
+		}
+	}
+
+}
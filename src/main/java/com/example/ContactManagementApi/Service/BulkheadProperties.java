@@ -0,0 +1,95 @@
+package com.example.ContactManagementApi.Service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the bulkheads that run heavy admin operations
+ * apart from interactive requests, bound from the app.bulkheads prefix.
+ */
+@ConfigurationProperties("app.bulkheads")
+public class BulkheadProperties {
+
+	/**
+	 * The bulkhead of full-table reads: the contact lists and the user list.
+	 */
+	private Settings bulk = new Settings(3, 50, Duration.ofSeconds(10));
+
+	/**
+	 * The bulkhead of merging duplicate contacts.
+	 */
+	private Settings merge = new Settings(1, 2, Duration.ofSeconds(30));
+
+	public Settings getBulk() {
+		return bulk;
+	}
+
+	public void setBulk(Settings bulk) {
+		this.bulk = bulk;
+	}
+
+	public Settings getMerge() {
+		return merge;
+	}
+
+	public void setMerge(Settings merge) {
+		this.merge = merge;
+	}
+
+	/**
+	 * The settings of one bulkhead.
+	 */
+	public static class Settings {
+
+		/**
+		 * The most operations running at once, each holding at most one database
+		 * connection.
+		 */
+		private int maxConcurrent;
+
+		/**
+		 * The most operations waiting for a free slot; further ones are rejected.
+		 */
+		private int queueSize;
+
+		/**
+		 * How long an operation may wait for a free slot before it is rejected.
+		 */
+		private Duration queueTimeout;
+
+		public Settings() {
+		}
+
+		public Settings(int maxConcurrent, int queueSize, Duration queueTimeout) {
+			this.maxConcurrent = maxConcurrent;
+			this.queueSize = queueSize;
+			this.queueTimeout = queueTimeout;
+		}
+
+		public int getMaxConcurrent() {
+			return maxConcurrent;
+		}
+
+		public void setMaxConcurrent(int maxConcurrent) {
+			this.maxConcurrent = maxConcurrent;
+		}
+
+		public int getQueueSize() {
+			return queueSize;
+		}
+
+		public void setQueueSize(int queueSize) {
+			this.queueSize = queueSize;
+		}
+
+		public Duration getQueueTimeout() {
+			return queueTimeout;
+		}
+
+		public void setQueueTimeout(Duration queueTimeout) {
+			this.queueTimeout = queueTimeout;
+		}
+
+	}
+
+}
@@ -0,0 +1,159 @@
+package com.example.ContactManagementApi.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import com.example.ContactManagementApi.Exception.BulkheadFullException;
+import com.example.ContactManagementApi.Service.BulkheadProperties.Settings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * The Bulkheads class limits how many heavy admin operations run at once, so
+ * they cannot take all request threads and database connections from the
+ * interactive single-contact requests.
+ *
+ * Each pool is a fair semaphore with app.bulkheads.<pool>.max-concurrent
+ * permits. An operation that finds no free permit waits in line for at most
+ * the queue timeout, and at most queue-size operations wait; others are
+ * rejected at once with a BulkheadFullException, answered with 503. As every
+ * operation holds at most one connection, the pools together never hold more
+ * connections than the sum of their permits.
+ *
+ * Saturation is published per pool: the bulkhead.active and bulkhead.queued
+ * gauges against bulkhead.limit, the bulkhead.queue.wait timer and the
+ * bulkhead.rejected counter, tagged with full or timeout.
+ */
+@Component
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class Bulkheads {
+
+	/**
+	 * The classes of heavy operations, each with a bulkhead of its own.
+	 */
+	public enum Pool {
+		BULK, MERGE
+	}
+
+	// Injects the configured pool sizes and timeouts
+	@Autowired
+	private BulkheadProperties properties;
+
+	// Injects the registry the saturation is published to
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final Map<Pool, Compartment> compartments = new EnumMap<>(Pool.class);
+
+	/**
+	 * Creates the pools once the settings have been injected.
+	 */
+	@PostConstruct
+	void createPools() {
+		compartments.put(Pool.BULK, new Compartment(Pool.BULK, properties.getBulk()));
+		compartments.put(Pool.MERGE, new Compartment(Pool.MERGE, properties.getMerge()));
+	}
+
+	/**
+	 * Takes a permit of the pool, waiting in line for at most its queue timeout.
+	 */
+	public void acquire(Pool pool) {
+		compartments.get(pool).acquire();
+	}
+
+	/**
+	 * Returns a permit taken with acquire.
+	 */
+	public void release(Pool pool) {
+		compartments.get(pool).permits.release();
+	}
+
+	/**
+	 * The permits, waiting operations and meters of one pool.
+	 */
+	private final class Compartment {
+
+		private final String name;
+
+		private final Semaphore permits;
+
+		private final AtomicInteger queued = new AtomicInteger();
+
+		private final int queueSize;
+
+		private final long queueTimeoutNanos;
+
+		private final Timer queueWait;
+
+		private final Counter rejectedFull;
+
+		private final Counter rejectedTimeout;
+
+		Compartment(Pool pool, Settings settings) {
+			this.name = pool.name().toLowerCase();
+			this.permits = new Semaphore(settings.getMaxConcurrent(), true);
+			this.queueSize = settings.getQueueSize();
+			this.queueTimeoutNanos = settings.getQueueTimeout().toNanos();
+
+			int limit = settings.getMaxConcurrent();
+			Gauge.builder("bulkhead.active", permits, semaphore -> limit - semaphore.availablePermits())
+					.description("Heavy operations running").tag("name", name).register(meterRegistry);
+			Gauge.builder("bulkhead.queued", queued, AtomicInteger::get)
+					.description("Heavy operations waiting for a permit").tag("name", name).register(meterRegistry);
+			Gauge.builder("bulkhead.limit", () -> limit).description("Heavy operations allowed to run at once")
+					.tag("name", name).register(meterRegistry);
+			this.queueWait = Timer.builder("bulkhead.queue.wait").description("Time spent waiting for a permit")
+					.tag("name", name).register(meterRegistry);
+			this.rejectedFull = rejected("full");
+			this.rejectedTimeout = rejected("timeout");
+		}
+
+		void acquire() {
+			// A free permit is taken at once; a timed tryAcquire keeps the order of
+			// the operations already waiting, unlike tryAcquire()
+			try {
+				if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+					return;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new BulkheadFullException("Interrupted while waiting for the " + name + " bulkhead");
+			}
+			if (queued.incrementAndGet() > queueSize) {
+				queued.decrementAndGet();
+				rejectedFull.increment();
+				throw new BulkheadFullException("The " + name + " bulkhead is full");
+			}
+
+			long start = System.nanoTime();
+			boolean acquired = false;
+			try {
+				acquired = permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				queued.decrementAndGet();
+				queueWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+			if (!acquired) {
+				rejectedTimeout.increment();
+				throw new BulkheadFullException("Timed out waiting for the " + name + " bulkhead");
+			}
+		}
+
+		private Counter rejected(String reason) {
+			return Counter.builder("bulkhead.rejected").description("Heavy operations rejected by their bulkhead")
+					.tag("name", name).tag("reason", reason).register(meterRegistry);
+		}
+
+	}
+
+}
@@ -1,11 +1,31 @@
 package com.example.ContactManagementApi.Service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.Entity.ContactEvent;
+import com.example.ContactManagementApi.Enum.ChangeType;
+import com.example.ContactManagementApi.Exception.ResourceNotFoundException;
+import com.example.ContactManagementApi.Outbox.ChangeOutbox;
 import com.example.ContactManagementApi.Repository.ContactRepository;
+import com.example.ContactManagementApi.Service.Bulkheads.Pool;
+import com.example.ContactManagementApi.Service.ResponseCache.Region;
+import com.example.ContactManagementApi.response.ContactResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 /**
  * ContactService is a service class that provides business logic for managing
@@ -13,34 +33,111 @@ import com.example.ContactManagementApi.Repository.ContactRepository;
  * perform CRUD (Create, Read, Update, Delete) operations on contact entities.
  * This class is annotated with @Service, indicating that it is a service
  * component in the Spring framework.
+ * 
+ * Methods run in read-only transactions by default, which skips Hibernate's
+ * snapshotting and flushing; write methods declare their own transaction.
+ * Every method is recorded in the service.method timer.
+ * 
+ * Concurrent lookups of the same contact by ID share a single query, so a burst
+ * of requests for one contact costs one database round trip and one pooled
+ * connection. The callers then share the returned contact, which must not be
+ * modified.
+ * 
+ * Every write invalidates the cached contact list responses and records a
+ * contact event in the outbox, in the write's transaction.
  */
 @Service
+@Timed(value = "service.method", histogram = true)
+@Transactional(readOnly = true)
 public class ContactService {
 
+	// The largest number of IDs loaded by a single IN query.
+	private static final int ID_CHUNK_SIZE = 100;
+
 	// Automatically injects the ContactRepository bean
 	@Autowired
 	private ContactRepository contactRepository;
 
+	// Injects the cache of list responses, invalidated by every write
+	@Autowired
+	private ResponseCache responseCache;
+
+	// Injects the outbox every write records its change in
+	@Autowired
+	private ChangeOutbox changeOutbox;
+
+	// Injects the EntityManager to load many contacts by ID at once
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// Injects the registry the coalesced lookups are counted in
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// Injects the transaction manager the coalesced lookups run their query with
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// How long a lookup waits for a query of the same contact already in flight
+	@Value("${app.contacts.lookup-timeout:5s}")
+	private Duration lookupTimeout;
+
+	// Lookups by ID currently in flight
+	private SingleFlight<Long, Optional<Contact>> contactLookups;
+
+	// The read-only transaction a coalesced lookup runs its query in
+	private TransactionTemplate lookupTransaction;
+
+	/**
+	 * Creates the lookup coalescing once the settings have been injected.
+	 */
+	@PostConstruct
+	void createContactLookups() {
+		contactLookups = new SingleFlight<>("contact", lookupTimeout, meterRegistry);
+		lookupTransaction = new TransactionTemplate(transactionManager);
+		lookupTransaction.setReadOnly(true);
+	}
+
 	// Method to create a new contact in the repository
+	@Transactional
 	public Contact createContact(Contact contact) {
-		return contactRepository.save(contact);
+		responseCache.invalidate(Region.CONTACTS);
+		Contact savedContact = contactRepository.save(contact);
+		changeOutbox.record(ContactEvent.CONTACTS, ChangeType.CREATED, savedContact.getId(),
+				ContactResponse.from(savedContact));
+		return savedContact;
 	}
 
 	// Method to retrieve all contacts from the repository
+	@Bulkhead(Pool.BULK)
 	public List<Contact> getAllContacts() {
 		return contactRepository.findAll();
 	}
 
-	// Method to retrieve a specific contact by its ID
+	// Method to retrieve a specific contact by its ID, sharing the query with
+	// concurrent lookups of the same ID. A read-only transaction takes its
+	// connection when it begins, so only the caller running the query opens one;
+	// the callers waiting for it hold no connection.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public Optional<Contact> getContactById(Long id) {
-		return contactRepository.findById(id);
+		return contactLookups.load(id, () -> lookupTransaction.execute(status -> contactRepository.findById(id)));
+	}
+
+	// Method to retrieve the contacts with the given IDs in the requested order,
+	// with null for IDs that do not exist. Contacts in the second-level cache are
+	// used first, the others are loaded with one IN query per chunk of IDs. Batches
+	// are bounded interactive reads, so they run outside the bulk bulkhead.
+	public List<Contact> getContactsByIds(List<Long> ids) {
+		return entityManager.unwrap(Session.class).byMultipleIds(Contact.class).with(CacheMode.NORMAL)
+				.withBatchSize(ID_CHUNK_SIZE).multiLoad(ids);
 	}
 
-	// Method to update an existing contact's details
+	// Method to update an existing contact's details in a single transaction
+	@Transactional
 	public Contact updateContact(Long id, Contact contactDetails) {
 		
 		// Finds the contact by ID; throws an exception if not found
-		Contact contact = contactRepository.findById(id).orElseThrow(() -> new RuntimeException("contact not found"));
+		Contact contact = contactRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Contact", id));
 
 		// Updates the contact's fields with new values from the provided contactDetails object
 		contact.setFirstName(contactDetails.getFirstName());
@@ -50,14 +147,20 @@ public class ContactService {
 		contact.setAddress(contactDetails.getAddress());
 
 		// Saves the updated contact back to the repository and returns the updated entity
-		return contactRepository.save(contact);
+		responseCache.invalidate(Region.CONTACTS);
+		Contact updatedContact = contactRepository.save(contact);
+		changeOutbox.record(ContactEvent.CONTACTS, ChangeType.UPDATED, id, ContactResponse.from(updatedContact));
+		return updatedContact;
 	}
 
 	// Method to delete a contact by its ID
+	@Transactional
 	public void deleteContact(Long id) {
 		
 		// Deletes the contact with the specified ID from the database
+		responseCache.invalidate(Region.CONTACTS);
 		contactRepository.deleteById(id);
+		changeOutbox.record(ContactEvent.CONTACTS, ChangeType.DELETED, id, null);
 	}
 
 }
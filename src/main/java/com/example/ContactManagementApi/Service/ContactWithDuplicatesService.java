@@ -1,15 +1,29 @@
 package com.example.ContactManagementApi.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
+import com.example.ContactManagementApi.Entity.ContactEvent;
 import com.example.ContactManagementApi.Entity.ContactWithDuplicates;
+import com.example.ContactManagementApi.Enum.ChangeType;
+import com.example.ContactManagementApi.Exception.ResourceNotFoundException;
+import com.example.ContactManagementApi.Outbox.ChangeOutbox;
 import com.example.ContactManagementApi.Repository.ContactWithDuplicatesRepository;
+import com.example.ContactManagementApi.Service.Bulkheads.Pool;
+import com.example.ContactManagementApi.Service.ResponseCache.Region;
+import com.example.ContactManagementApi.response.ContactResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 /**
  * ContactWithDuplicatesService is a service class that provides business logic
@@ -18,20 +32,52 @@ import com.example.ContactManagementApi.Repository.ContactWithDuplicatesReposito
  * Read, Update, Delete) operations on contact entities, as well as merging
  * duplicate contacts. This class is annotated with @Service, indicating that it
  * is a service component in the Spring framework.
+ * 
+ * Methods run in read-only transactions by default, which skips Hibernate's
+ * snapshotting and flushing; write methods declare their own transaction.
+ * Every method is recorded in the service.method timer. Every write
+ * invalidates the cached contact list responses and records a contact event in
+ * the outbox, in the write's transaction; a merge records a single event.
  */
 @Service
+@Timed(value = "service.method", histogram = true)
+@Transactional(readOnly = true)
 public class ContactWithDuplicatesService {
 
+	// The largest number of IDs deleted by a single statement while merging.
+	private static final int DELETE_CHUNK_SIZE = 1000;
+
+	// The largest number of IDs loaded by a single IN query.
+	private static final int ID_CHUNK_SIZE = 100;
+
 	// Injecting the ContactWithDuplicatesRepository to perform database operations.
 	@Autowired
 	private ContactWithDuplicatesRepository contactWithDuplicatesRepository;
 
+	// Injects the cache of list responses, invalidated by every write.
+	@Autowired
+	private ResponseCache responseCache;
+
+	// Injects the outbox every write records its change in.
+	@Autowired
+	private ChangeOutbox changeOutbox;
+
+	// Injects the EntityManager to load many contacts by ID at once.
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	// Method to create a new contact and saves it to the repository.
+	@Transactional
 	public ContactWithDuplicates createContact(ContactWithDuplicates contact) {
-		return contactWithDuplicatesRepository.save(contact);
+		responseCache.invalidate(Region.DUPLICATE_CONTACTS);
+		ContactWithDuplicates savedContact = contactWithDuplicatesRepository.save(contact);
+		changeOutbox.record(ContactEvent.DUPLICATE_CONTACTS, ChangeType.CREATED, savedContact.getId(),
+				ContactResponse.from(savedContact));
+		return savedContact;
 	}
 
 	// Method to retrieve all contacts from the repository.
+	@Bulkhead(Pool.BULK)
 	public List<ContactWithDuplicates> getAllContacts() {
 		return contactWithDuplicatesRepository.findAll();
 	}
@@ -41,12 +87,22 @@ public class ContactWithDuplicatesService {
 		return contactWithDuplicatesRepository.findById(id);
 	}
 
-	// Method to update the details of an existing contact.
+	// Method to retrieve the contacts with the given IDs in the requested order,
+	// with null for IDs that do not exist. Contacts in the second-level cache are
+	// used first, the others are loaded with one IN query per chunk of IDs. Batches
+	// are bounded interactive reads, so they run outside the bulk bulkhead.
+	public List<ContactWithDuplicates> getContactsByIds(List<Long> ids) {
+		return entityManager.unwrap(Session.class).byMultipleIds(ContactWithDuplicates.class).with(CacheMode.NORMAL)
+				.withBatchSize(ID_CHUNK_SIZE).multiLoad(ids);
+	}
+
+	// Method to update the details of an existing contact in a single transaction.
+	@Transactional
 	public ContactWithDuplicates updateContact(Long id, ContactWithDuplicates contactDetails) {
 
 		// Finds the contact by ID; throws an exception if not found
 		ContactWithDuplicates contact = contactWithDuplicatesRepository.findById(id)
-				.orElseThrow(() -> new RuntimeException("contact not found"));
+				.orElseThrow(() -> new ResourceNotFoundException("Contact", id));
 
 		// Updates the contact's fields with new values from the provided contactDetails
 		// object
@@ -58,27 +114,39 @@ public class ContactWithDuplicatesService {
 
 		// Saves the updated contact back to the repository and returns the updated
 		// entity
-		return contactWithDuplicatesRepository.save(contact);
+		responseCache.invalidate(Region.DUPLICATE_CONTACTS);
+		ContactWithDuplicates updatedContact = contactWithDuplicatesRepository.save(contact);
+		changeOutbox.record(ContactEvent.DUPLICATE_CONTACTS, ChangeType.UPDATED, id,
+				ContactResponse.from(updatedContact));
+		return updatedContact;
 	}
 
 	// Method to delete a contact by its ID
+	@Transactional
 	public void deleteContact(Long id) {
 
 		// Deletes the contact with the specified ID from the database
+		responseCache.invalidate(Region.DUPLICATE_CONTACTS);
 		contactWithDuplicatesRepository.deleteById(id);
+		changeOutbox.record(ContactEvent.DUPLICATE_CONTACTS, ChangeType.DELETED, id, null);
 	}
 
 	/**
 	 * Merges duplicate contacts in the repository based on email and phone number.
 	 * This method combines the details of contacts that share the same email or
 	 * phone number, preserving the most recent information. It deletes the
-	 * duplicate entries after merging.
+	 * duplicate entries after merging, in bulk rather than one by one.
 	 *
 	 * @return a success message indicating that contacts have been merged and
 	 *         duplicates deleted
 	 */
+	@Bulkhead(Pool.MERGE)
+	@Transactional
 	public String mergeDuplicateContacts() {
 
+		// The merge rewrites and deletes contacts, so the cached lists become stale
+		responseCache.invalidate(Region.DUPLICATE_CONTACTS);
+
 		// Fetch all contacts from the repository
 		List<ContactWithDuplicates> allContacts = contactWithDuplicatesRepository.findAll();
 
@@ -88,6 +156,9 @@ public class ContactWithDuplicatesService {
 		// Set to keep track of IDs of contacts that need to be deleted
 		Set<Long> idsToDelete = new HashSet<>();
 
+		// Set to keep track of IDs of the kept contacts that were merged into
+		Set<Long> idsUpdated = new HashSet<>();
+
 		// Iterate through all contacts to identify duplicates
 		for (ContactWithDuplicates contact : allContacts) {
 			// Generate keys based on email and phone number for merging
@@ -122,6 +193,7 @@ public class ContactWithDuplicatesService {
 
 				// Mark the current contact's ID for deletion
 				idsToDelete.add(contact.getId());
+				idsUpdated.add(existingContact.getId());
 			} else {
 				// If no duplicate is found, add the contact to the merged map
 				if (!emailKey.isEmpty()) {
@@ -136,9 +208,17 @@ public class ContactWithDuplicatesService {
 		// Save all merged contacts back to the repository
 		contactWithDuplicatesRepository.saveAll(mergedContacts.values());
 
-		// Delete all marked duplicate contacts from the repository
-		if (!idsToDelete.isEmpty()) {
-			contactWithDuplicatesRepository.deleteAllById(idsToDelete);
+		// Delete all marked duplicate contacts with one statement per chunk of IDs
+		List<Long> ids = new ArrayList<>(idsToDelete);
+		for (int start = 0; start < ids.size(); start += DELETE_CHUNK_SIZE) {
+			contactWithDuplicatesRepository
+					.deleteAllByIdInBatch(ids.subList(start, Math.min(start + DELETE_CHUNK_SIZE, ids.size())));
+		}
+
+		// Record the whole merge as one event, if anything was merged
+		if (!ids.isEmpty()) {
+			changeOutbox.record(ContactEvent.DUPLICATE_CONTACTS, ChangeType.MERGED, null,
+					Map.of("updated", idsUpdated, "deleted", ids));
 		}
 
 		// Return a success message after merging and deletion
@@ -0,0 +1,317 @@
+package com.example.ContactManagementApi.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * The ResponseCache class keeps the serialized contact list responses, so
+ * repeated requests are answered with the stored bytes instead of loading and
+ * serializing every contact again.
+ *
+ * Responses are encoded as JSON, CBOR or Smile according to the Accept header,
+ * with the same ObjectMapper settings as the message converters. Entries are
+ * keyed by region, path, query string and encoding. Every write through the
+ * contact services increments the generation of its region once its
+ * transaction has completed, and an entry is only served while its region is
+ * still at the generation it was rendered in. A renderer reads the generation
+ * before loading, so a response that may have missed a concurrent write is
+ * never served to a request that arrives after the write. Entries also expire
+ * after a TTL, which bounds how long writes made by other instances go
+ * unnoticed.
+ *
+ * Bodies of at least app.response-cache.gzip-min-size are gzipped once, on the
+ * first request that accepts gzip. Concurrent misses of the same key and
+ * generation render once; a miss waits for such a render for at most
+ * app.response-cache.render-timeout. Requests are counted in the
+ * response.cache.requests counter, tagged with the region and hit or miss.
+ */
+@Component
+public class ResponseCache {
+
+	/**
+	 * The groups of cached responses that are invalidated together.
+	 */
+	public enum Region {
+		CONTACTS, DUPLICATE_CONTACTS
+	}
+
+	// Injects the application's ObjectMappers, so cached bodies match the regular ones
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MappingJackson2CborHttpMessageConverter cborConverter;
+
+	@Autowired
+	private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+	// Injects the registry the hits and misses are counted in
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// Whether responses are cached at all
+	@Value("${app.response-cache.enabled:true}")
+	private boolean enabled;
+
+	// How long an entry may be served when no write is seen
+	@Value("${app.response-cache.ttl:30s}")
+	private Duration ttl;
+
+	// The total size of uncompressed bodies kept; larger bodies are not cached
+	@Value("${app.response-cache.max-size:64MB}")
+	private DataSize maxSize;
+
+	// Bodies smaller than this are never gzipped
+	@Value("${app.response-cache.gzip-min-size:1KB}")
+	private DataSize gzipMinSize;
+
+	// How long a miss waits for a render of the same response already in flight
+	@Value("${app.response-cache.render-timeout:30s}")
+	private Duration renderTimeout;
+
+	// The ObjectMapper of each encoding, in order of preference
+	private final Map<MediaType, ObjectMapper> encodings = new LinkedHashMap<>();
+
+	// The current generation of each region
+	private final Map<Region, AtomicLong> generations = new EnumMap<>(Region.class);
+
+	private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+	// The total size of the cached bodies
+	private final AtomicLong size = new AtomicLong();
+
+	private final Map<Region, Counter> hits = new EnumMap<>(Region.class);
+
+	private final Map<Region, Counter> misses = new EnumMap<>(Region.class);
+
+	// Renders in flight, so concurrent misses of one key and generation render
+	// once
+	private SingleFlight<Render, Entry> renders;
+
+	/**
+	 * Registers the counters and creates the generations once the settings have
+	 * been injected.
+	 */
+	@PostConstruct
+	void initialize() {
+		for (Region region : Region.values()) {
+			generations.put(region, new AtomicLong());
+			hits.put(region, counter(region, "hit"));
+			misses.put(region, counter(region, "miss"));
+		}
+		renders = new SingleFlight<>("response", renderTimeout, meterRegistry);
+		encodings.put(MediaType.APPLICATION_JSON, objectMapper);
+		encodings.put(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper());
+		encodings.put(new MediaType("application", "x-jackson-smile"), smileConverter.getObjectMapper());
+	}
+
+	/**
+	 * Returns the response for the current request in the encoding it accepts,
+	 * from the cache if a valid entry exists and otherwise serialized from the
+	 * loader's result and cached.
+	 */
+	public ResponseEntity<byte[]> respond(Region region, HttpServletRequest request, Supplier<?> loader) {
+		MediaType contentType = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+		if (!enabled) {
+			return ResponseEntity.ok().contentType(contentType).body(serialize(contentType, loader.get()));
+		}
+
+		String query = request.getQueryString();
+		Key key = new Key(region, query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query,
+				contentType);
+		long generation = generations.get(region).get();
+		Entry entry = entries.get(key);
+		if (entry != null && entry.isValid(generation, System.nanoTime())) {
+			hits.get(region).increment();
+		} else {
+			// A render started before a write has an older generation and is not joined
+			misses.get(region).increment();
+			entry = renders.load(new Render(key, generation), () -> render(key, generation, loader));
+		}
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(contentType)
+				.header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+		if (entry.body.length >= gzipMinSize.toBytes()
+				&& acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+			return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzipped());
+		}
+		return response.body(entry.body);
+	}
+
+	/**
+	 * Invalidates the cached responses of the region once the current
+	 * transaction has completed, or immediately outside a transaction.
+	 */
+	public void invalidate(Region region) {
+		AtomicLong generation = generations.get(region);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			generation.incrementAndGet();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				generation.incrementAndGet();
+			}
+		});
+	}
+
+	// Loads and serializes a response in the generation read before loading
+	private Entry render(Key key, long generation, Supplier<?> loader) {
+		Entry entry = new Entry(generation, System.nanoTime() + ttl.toNanos(),
+				serialize(key.contentType(), loader.get()));
+		store(key, entry);
+		return entry;
+	}
+
+	// Stores an entry, emptying the cache if it grows beyond its maximum size
+	private void store(Key key, Entry entry) {
+		if (entry.body.length > maxSize.toBytes()) {
+			return;
+		}
+		Entry previous = entries.put(key, entry);
+		size.addAndGet(entry.body.length - (previous == null ? 0 : previous.body.length));
+		if (size.get() > maxSize.toBytes()) {
+			entries.keySet().forEach(existing -> {
+				if (!existing.equals(key)) {
+					Entry removed = entries.remove(existing);
+					if (removed != null) {
+						size.addAndGet(-removed.body.length);
+					}
+				}
+			});
+		}
+	}
+
+	private byte[] serialize(MediaType contentType, Object value) {
+		try {
+			return encodings.get(contentType).writeValueAsBytes(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize the response", e);
+		}
+	}
+
+	// Picks the first encoding matching the most preferred accepted media type,
+	// falling back to JSON
+	private MediaType negotiate(String accept) {
+		if (accept == null) {
+			return MediaType.APPLICATION_JSON;
+		}
+		try {
+			List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+			accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+			for (MediaType mediaType : accepted) {
+				for (MediaType encoding : encodings.keySet()) {
+					if (mediaType.getQualityValue() > 0 && mediaType.isCompatibleWith(encoding)) {
+						return encoding;
+					}
+				}
+			}
+		} catch (InvalidMediaTypeException e) {
+			// Treated like a missing header
+		}
+		return MediaType.APPLICATION_JSON;
+	}
+
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.trim().split(";");
+			if (parts[0].trim().equalsIgnoreCase("gzip")) {
+				return parts.length == 1 || !parts[1].replace(" ", "").equals("q=0");
+			}
+		}
+		return false;
+	}
+
+	private Counter counter(Region region, String result) {
+		return Counter.builder("response.cache.requests").description("Requests answered by the response cache")
+				.tag("region", region.name().toLowerCase()).tag("result", result).register(meterRegistry);
+	}
+
+	/**
+	 * Identifies a cached response by its region, path with query string and
+	 * encoding.
+	 */
+	private record Key(Region region, String uri, MediaType contentType) {
+	}
+
+	/**
+	 * Identifies a render by the response and the generation it is rendered in.
+	 */
+	private record Render(Key key, long generation) {
+	}
+
+	/**
+	 * A serialized response with the generation it was rendered in.
+	 */
+	private static final class Entry {
+
+		private final long generation;
+
+		private final long expiresAt;
+
+		private final byte[] body;
+
+		// Gzipped on first use, as many clients never ask for it
+		private volatile byte[] gzipped;
+
+		Entry(long generation, long expiresAt, byte[] body) {
+			this.generation = generation;
+			this.expiresAt = expiresAt;
+			this.body = body;
+		}
+
+		boolean isValid(long currentGeneration, long now) {
+			return generation == currentGeneration && now - expiresAt < 0;
+		}
+
+		byte[] gzipped() {
+			byte[] result = gzipped;
+			if (result == null) {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 4);
+				try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+					gzip.write(body);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				result = bytes.toByteArray();
+				gzipped = result;
+			}
+			return result;
+		}
+
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.example.ContactManagementApi.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import com.example.ContactManagementApi.Entity.Role;
+import com.example.ContactManagementApi.Enum.RoleEnum;
+import com.example.ContactManagementApi.Repository.RoleRepository;
+
+/**
+ * The RoleRegistry class holds an immutable, in-memory view of the roles stored
+ * in the database, keyed by their RoleEnum name.
+ *
+ * Roles are a fixed set, inserted by the database migrations, so they are
+ * loaded once: by RolesSeeding when seeding on startup is enabled, and
+ * otherwise on the first lookup. New users can then be linked to a role by its
+ * identifier without querying the role table again.
+ */
+@Component
+public class RoleRegistry {
+
+	// Injects the RoleRepository to load the roles on first use
+	@Autowired
+	private RoleRepository roleRepository;
+
+	// Snapshot of the seeded roles; replaced as a whole when the registry is loaded
+	private volatile Map<RoleEnum, Role> roles = Collections.emptyMap();
+
+	// Lets a single caller load the roles on first use; a lock rather than
+	// synchronized, so virtual threads are not pinned during the query
+	private final ReentrantLock loadLock = new ReentrantLock();
+
+	/**
+	 * Loads the given roles into the registry, replacing any previous snapshot.
+	 */
+	void load(Collection<Role> seededRoles) {
+		Map<RoleEnum, Role> snapshot = new EnumMap<>(RoleEnum.class);
+		for (Role role : seededRoles) {
+			snapshot.put(role.getName(), copyOf(role));
+		}
+		this.roles = Collections.unmodifiableMap(snapshot);
+	}
+
+	/**
+	 * Returns a detached reference to the role with the given name, suitable for
+	 * attaching to a new user without loading the role from the database.
+	 */
+	public Role getRole(RoleEnum roleEnum) {
+		Map<RoleEnum, Role> snapshot = roles;
+		if (snapshot.isEmpty()) {
+			snapshot = loadFromDatabase();
+		}
+		Role role = snapshot.get(roleEnum);
+		if (role == null) {
+			throw new IllegalArgumentException(roleEnum.name() + " role not found");
+		}
+		return copyOf(role); // Hand out a copy so the cached entry is never shared between sessions
+	}
+
+	// Loads the roles from the database unless another caller already has
+	private Map<RoleEnum, Role> loadFromDatabase() {
+		loadLock.lock();
+		try {
+			if (roles.isEmpty()) {
+				load(roleRepository.findAll());
+			}
+			return roles;
+		} finally {
+			loadLock.unlock();
+		}
+	}
+
+	// Creates a detached copy of a role carrying only its identifier and name
+	private static Role copyOf(Role role) {
+		Role copy = new Role();
+		copy.setId(role.getId());
+		copy.setName(role.getName());
+		return copy;
+	}
+
+}
@@ -1,8 +1,14 @@
 package com.example.ContactManagementApi.Service;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import com.example.ContactManagementApi.Entity.Role;
 import com.example.ContactManagementApi.Enum.RoleEnum;
 import com.example.ContactManagementApi.Repository.RoleRepository;
@@ -20,6 +26,13 @@ import com.example.ContactManagementApi.Repository.RoleRepository;
  * Usage: This class should be included in an application where role-based
  * access control is required and predefined roles need to be seeded upon
  * startup.
+ * 
+ * Once the roles are present they are loaded into the RoleRegistry, so the
+ * rest of the application can resolve roles without querying the database.
+ * 
+ * The roles are inserted by the database migrations, so seeding only runs when
+ * app.roles.seed-on-startup is true; otherwise it stays off the startup path
+ * and the RoleRegistry loads the roles on first use.
  */
 @Component
 public class RolesSeeding implements CommandLineRunner {
@@ -28,34 +41,47 @@ public class RolesSeeding implements CommandLineRunner {
 	@Autowired
 	private RoleRepository roleRepository;
 
+	// Injecting the RoleRegistry that caches the seeded roles in memory
+	@Autowired
+	private RoleRegistry roleRegistry;
+
+	// Whether the roles are checked and loaded while the application starts
+	@Value("${app.roles.seed-on-startup:false}")
+	private boolean seedOnStartup;
+
 	/**
 	 * This method is called when the application starts. It triggers the role
-	 * seeding process to ensure necessary roles are present in the database.
+	 * seeding process to ensure necessary roles are present in the database. The
+	 * lookup and any inserts share a single transaction.
 	 */
 	@Override
+	@Transactional
 	public void run(String... args) throws Exception {
-		seedRoles();
+		if (seedOnStartup) {
+			seedRoles();
+		}
 	}
 
 	/**
-	 * Seeds the roles into the database if they do not already exist. Specifically,
-	 * it checks for the presence of ROLE_ADMIN and ROLE_USER.
+	 * Seeds the roles into the database if they do not already exist and loads
+	 * them into the RoleRegistry. The existing roles are read with a single query
+	 * instead of one lookup per role.
 	 */
 	private void seedRoles() {
-		// Check if the ROLE_ADMIN exists in the repository
-		if (roleRepository.findByName(RoleEnum.ROLE_ADMIN) == null) {
-			Role adminRole = new Role(); // Create a new Role object
-			adminRole.setName(RoleEnum.ROLE_ADMIN); // Set the role name to ROLE_ADMIN
-			roleRepository.save(adminRole); // Save the admin role to the repository
-		}
+		// Retrieve all existing roles and collect their names
+		List<Role> roles = new ArrayList<>(roleRepository.findAll());
+		Set<RoleEnum> missingRoles = EnumSet.allOf(RoleEnum.class);
+		roles.forEach(role -> missingRoles.remove(role.getName()));
 
-		// Check if the ROLE_USER exists in the repository
-		if (roleRepository.findByName(RoleEnum.ROLE_USER) == null) {
-			Role userRole = new Role(); // Create a new Role object
-			userRole.setName(RoleEnum.ROLE_USER); // Set the role name to ROLE_ADMIN
-			roleRepository.save(userRole); // Save the admin role to the repository
+		// Create and save every role that is not present yet (ROLE_ADMIN, ROLE_USER)
+		for (RoleEnum roleEnum : missingRoles) {
+			Role role = new Role(); // Create a new Role object
+			role.setName(roleEnum); // Set the role name
+			roles.add(roleRepository.save(role)); // Save the role to the repository
 		}
 
+		// Make the seeded roles available without further database lookups
+		roleRegistry.load(roles);
 	}
 
 }
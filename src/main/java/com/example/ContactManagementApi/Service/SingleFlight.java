@@ -0,0 +1,97 @@
+package com.example.ContactManagementApi.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.dao.QueryTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent loads of the same key into a single call.
+ * 
+ * The first caller for a key runs the loader on its own thread; callers that
+ * arrive while it is in flight wait for its result instead of loading again,
+ * and receive the same value or exception. A waiting caller gives up after the
+ * timeout with a QueryTimeoutException. The key is released as soon as the
+ * load finishes, so nothing is cached: a caller arriving later starts a new
+ * load.
+ * 
+ * Calls are recorded in the singleflight.calls counter, tagged with the name
+ * and whether the caller loaded the value or shared another caller's load.
+ */
+public class SingleFlight<K, V> {
+
+	// The loads in flight, keyed by what they load
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	private final String name;
+
+	private final long timeoutNanos;
+
+	private final Counter loaded;
+
+	private final Counter shared;
+
+	public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.timeoutNanos = timeout.toNanos();
+		this.loaded = counter(name, "loaded", meterRegistry);
+		this.shared = counter(name, "shared", meterRegistry);
+	}
+
+	/**
+	 * Returns the value for the key, loading it unless a load of the same key is
+	 * already in flight.
+	 */
+	public V load(K key, Supplier<V> loader) {
+		CompletableFuture<V> load = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+		if (existing != null) {
+			shared.increment();
+			return await(key, existing);
+		}
+
+		loaded.increment();
+		try {
+			V value = loader.get();
+			load.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			load.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, load);
+		}
+	}
+
+	// Waits for another caller's load and rethrows its exception unchanged
+	private V await(K key, CompletableFuture<V> load) {
+		try {
+			return load.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			throw new QueryTimeoutException("Timed out waiting for the " + name + " " + key + " to be loaded");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the " + name + " " + key + " to be loaded");
+		}
+	}
+
+	private static Counter counter(String name, String result, MeterRegistry meterRegistry) {
+		return Counter.builder("singleflight.calls").description("Loads run or shared by coalesced callers")
+				.tag("name", name).tag("result", result).register(meterRegistry);
+	}
+
+}
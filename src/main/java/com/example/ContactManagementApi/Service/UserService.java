@@ -1,25 +1,32 @@
 package com.example.ContactManagementApi.Service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
 import com.example.ContactManagementApi.Entity.Role;
 import com.example.ContactManagementApi.Entity.User;
 import com.example.ContactManagementApi.Enum.RoleEnum;
-import com.example.ContactManagementApi.Repository.RoleRepository;
+import com.example.ContactManagementApi.Exception.ConflictException;
+import com.example.ContactManagementApi.Exception.ResourceNotFoundException;
 import com.example.ContactManagementApi.Repository.UserRepository;
 import com.example.ContactManagementApi.request.LoginRequest;
 import com.example.ContactManagementApi.request.SignupRequest;
-import jakarta.persistence.EntityNotFoundException;
+import com.example.ContactManagementApi.Service.Bulkheads.Pool;
 
 /**
  * The UserService class provides various services related to user management,
@@ -31,17 +38,23 @@ import jakarta.persistence.EntityNotFoundException;
  * 
  * Usage: This service can be used in applications where user registration,
  * authentication, and role-based access control are needed.
+ * 
+ * Methods run in read-only transactions by default; registration, updates and
+ * deletion declare their own read-write transaction. Every method is recorded
+ * in the service.method timer.
  */
 @Service
+@Timed(value = "service.method", histogram = true)
+@Transactional(readOnly = true)
 public class UserService {
 
 	// Injects the UserRepository for interacting with user data in the database.
 	@Autowired
 	private UserRepository userRepository;
 
-	// Injects the RoleRepository for interacting with roles in the database.
+	// Injects the RoleRegistry to resolve roles without querying the database.
 	@Autowired
-	private RoleRepository roleRepository;
+	private RoleRegistry roleRegistry;
 
 	// Injects PasswordEncoder to encode user passwords for security.
 	@Autowired
@@ -53,11 +66,13 @@ public class UserService {
 	private AuthenticationManager authenticationManager;
 
 	// Registers a new user with the role of ROLE_USER.
+	@Transactional
 	public User registerUser(SignupRequest signupRequest) {
 		return registerUserOrAdmin(signupRequest, RoleEnum.ROLE_USER);
 	}
 
 	// Registers a new admin with the role of ROLE_ADMIN.
+	@Transactional
 	public User registerAdmin(SignupRequest signupRequest) {
 		return registerUserOrAdmin(signupRequest, RoleEnum.ROLE_ADMIN);
 	}
@@ -69,8 +84,8 @@ public class UserService {
 	 */
 	private User registerUserOrAdmin(SignupRequest signupRequest, RoleEnum roleEnum) {
 		// Check if the username already exists in the system.
-		if (userRepository.findByUsername(signupRequest.getUsername()).isPresent()) {
-			throw new IllegalArgumentException("Username is already taken!");
+		if (userRepository.existsByUsername(signupRequest.getUsername())) {
+			throw new ConflictException("Username is already taken!");
 		}
 
 		// Create a new User and set its username and encoded password.
@@ -78,11 +93,8 @@ public class UserService {
 		user.setUsername(signupRequest.getUsername());
 		user.setPassword(passwordEncoder.encode(signupRequest.getPassword()));
 
-		// Retrieve the role from the RoleRepository and assign it to the user.
-		Role role = roleRepository.findByName(roleEnum);
-		if (role == null) {
-			throw new IllegalArgumentException(roleEnum.name() + " role not found");
-		}
+		// Resolve the role from the RoleRegistry and assign it to the user.
+		Role role = roleRegistry.getRole(roleEnum);
 		user.getRoles().add(role); // Add the role to the user's role set.
 
 		// Save the new user to the database.
@@ -91,7 +103,8 @@ public class UserService {
 
 	/**
 	 * Authenticates a user based on the provided credentials and checks if the user
-	 * has the required role.
+	 * has the required role. The user loaded by the authentication provider is
+	 * reused, so no further lookups are made.
 	 */
 	public User authenticate(LoginRequest input, RoleEnum requiredRole) throws AuthenticationException {
 		// Authenticate the user based on username and password.
@@ -101,13 +114,11 @@ public class UserService {
 		// Set the authentication in the security context.
 		SecurityContextHolder.getContext().setAuthentication(authentication);
 
-		// Retrieve the authenticated user's details.
-		UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-		User user = userRepository.findByUsername(input.getUsername())
-				.orElseThrow(() -> new IllegalArgumentException("User not found"));
+		// The principal is the User entity loaded by the UserDetailsService.
+		User user = (User) authentication.getPrincipal();
 
 		// Verify if the user has the required role.
-		if (!hasRole(userDetails.getUsername(), requiredRole)) {
+		if (!hasRole(user, requiredRole)) {
 			throw new IllegalArgumentException("User does not have the required role: " + requiredRole);
 		}
 
@@ -116,25 +127,45 @@ public class UserService {
 
 	// Checks if a user has a specific role.
 	public boolean hasRole(String username, RoleEnum roleEnum) {
-		// Retrieve the user by username.
-		User user = userRepository.findByUsername(username).orElse(null);
+		// Retrieve the user by username and check its roles if it exists.
+		return userRepository.findByUsername(username).map(user -> hasRole(user, roleEnum)).orElse(false);
+	}
 
-		// If the user exists, check if they have the specified role.
-		if (user != null) {
-			return user.getRoles().stream().anyMatch(role -> role.getName() == roleEnum);
-		}
-		return false;
+	// Checks the roles of an already loaded user.
+	private static boolean hasRole(User user, RoleEnum roleEnum) {
+		return user.getRoles().stream().anyMatch(role -> role.getName() == roleEnum);
 	}
 
-	// Retrieves a list of all users from the database.
-	public List<User> allUsers() {
-		List<User> users = new ArrayList<>();
-		userRepository.findAll().forEach(users::add);
-		return users;
+	/**
+	 * Retrieves one page of users together with their roles. The page of
+	 * identifiers is selected first and the users are then fetched with their roles
+	 * in a single query, so the number of statements does not grow with the page
+	 * size.
+	 */
+	@Bulkhead(Pool.BULK)
+	public Page<User> allUsers(Pageable pageable) {
+		// Select the identifiers of the requested page (plus the count query).
+		Page<Long> ids = userRepository.findPageOfIds(pageable);
+		if (ids.isEmpty()) {
+			return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+		}
+
+		// Fetch the users of the page with their roles and restore the page order.
+		Map<Long, User> usersById = new HashMap<>();
+		userRepository.findWithRolesByIdIn(ids.getContent()).forEach(user -> usersById.put(user.getId(), user));
+		List<User> users = new ArrayList<>(ids.getNumberOfElements());
+		for (Long id : ids) {
+			User user = usersById.get(id);
+			if (user != null) {
+				users.add(user);
+			}
+		}
+		return new PageImpl<>(users, pageable, ids.getTotalElements());
 	}
 
 	// Updates an existing user's information, including their username and
 	// password.
+	@Transactional
 	public User updateUser(Long id, User user) {
 		// Retrieve the existing user by ID.
 		Optional<User> existingUserOpt = userRepository.findById(id);
@@ -148,11 +179,12 @@ public class UserService {
 			// Save the updated user to the database.
 			return userRepository.save(existingUser);
 		} else {
-			throw new EntityNotFoundException("User not found");
+			throw new ResourceNotFoundException("User", id);
 		}
 	}
 
 	// Deletes a user from the database by their ID.
+	@Transactional
 	public void deleteUser(Long id) {
 		userRepository.deleteById(id);
 	}
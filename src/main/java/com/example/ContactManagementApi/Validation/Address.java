@@ -0,0 +1,45 @@
+package com.example.ContactManagementApi.Validation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+/**
+ * The annotated value may only contain ASCII letters, digits, whitespace and
+ * commas, and may be empty. Null values are valid, so
+ * the field may be combined with @NotBlank when it is required.
+ * 
+ * @see ContactFields#isAddress(CharSequence)
+ */
+@Documented
+@Constraint(validatedBy = Address.Validator.class)
+@Target({ FIELD, PARAMETER })
+@Retention(RUNTIME)
+public @interface Address {
+
+	String message() default "Invalid address format";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+
+	/**
+	 * Validates the annotated value with {@link ContactFields#isAddress(CharSequence)}.
+	 */
+	class Validator implements ConstraintValidator<Address, CharSequence> {
+
+		@Override
+		public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+			return value == null || ContactFields.isAddress(value);
+		}
+
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.example.ContactManagementApi.Validation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+/**
+ * The annotated value must be one or more ASCII letters. Null values are valid, so
+ * the field may be combined with @NotBlank when it is required.
+ * 
+ * @see ContactFields#isAlphabetic(CharSequence)
+ */
+@Documented
+@Constraint(validatedBy = Alphabetic.Validator.class)
+@Target({ FIELD, PARAMETER })
+@Retention(RUNTIME)
+public @interface Alphabetic {
+
+	String message() default "Must contain only alphabetic characters";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+
+	/**
+	 * Validates the annotated value with {@link ContactFields#isAlphabetic(CharSequence)}.
+	 */
+	class Validator implements ConstraintValidator<Alphabetic, CharSequence> {
+
+		@Override
+		public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+			return value == null || ContactFields.isAlphabetic(value);
+		}
+
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.example.ContactManagementApi.Validation;
+
+/**
+ * The ContactFields class checks the format of contact fields by scanning their
+ * characters, without compiling or running a regular expression.
+ * 
+ * Each check accepts exactly the values the regular expression named in its
+ * comment matches in full, as @Pattern did: letters and digits are ASCII only
+ * and whitespace is the \s class of java.util.regex. The checks allocate
+ * nothing, so they can run on every register, update and bulk import.
+ */
+public final class ContactFields {
+
+	private ContactFields() {
+	}
+
+	/**
+	 * Checks a first or last name: ^[A-Za-z]+$
+	 */
+	public static boolean isAlphabetic(CharSequence value) {
+		if (value.length() == 0) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			if (!isLetter(value.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks an email address: ^[A-Za-z0-9._%+-]+@[A-Za-z]+\.[A-Za-z]{2,}$
+	 */
+	public static boolean isEmail(CharSequence value) {
+		int length = value.length();
+
+		// The local part runs up to the first @, as it cannot contain one
+		int at = 0;
+		while (at < length && value.charAt(at) != '@') {
+			if (!isLocalPartCharacter(value.charAt(at))) {
+				return false;
+			}
+			at++;
+		}
+		if (at == 0 || at == length) {
+			return false;
+		}
+
+		// The domain is letters with exactly one dot, which is neither first nor
+		// followed by fewer than two letters
+		int dot = -1;
+		for (int i = at + 1; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '.' && dot < 0) {
+				dot = i;
+			} else if (!isLetter(c)) {
+				return false;
+			}
+		}
+		return dot > at + 1 && length - dot > 2;
+	}
+
+	/**
+	 * Checks a phone number: ^\+[0-9]{2}[0-9]{10}$
+	 */
+	public static boolean isPhoneNumber(CharSequence value) {
+		if (value.length() != 13 || value.charAt(0) != '+') {
+			return false;
+		}
+		for (int i = 1; i < 13; i++) {
+			if (!isDigit(value.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks an address, which may be empty: ^[A-Za-z0-9\s,]*$
+	 */
+	public static boolean isAddress(CharSequence value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (!isLetter(c) && !isDigit(c) && !isWhitespace(c) && c != ',') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isLetter(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	// The \s class: space, tab, line feed, vertical tab, form feed and carriage return
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || (c >= '\t' && c <= '\r');
+	}
+
+	private static boolean isLocalPartCharacter(char c) {
+		return isLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.example.ContactManagementApi.Validation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+/**
+ * The annotated value must be an email address with a single-label domain and a
+ * top-level domain of at least two letters. Null values are valid, so
+ * the field may be combined with @NotBlank when it is required.
+ * 
+ * @see ContactFields#isEmail(CharSequence)
+ */
+@Documented
+@Constraint(validatedBy = EmailAddress.Validator.class)
+@Target({ FIELD, PARAMETER })
+@Retention(RUNTIME)
+public @interface EmailAddress {
+
+	String message() default "Email format is invalid";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+
+	/**
+	 * Validates the annotated value with {@link ContactFields#isEmail(CharSequence)}.
+	 */
+	class Validator implements ConstraintValidator<EmailAddress, CharSequence> {
+
+		@Override
+		public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+			return value == null || ContactFields.isEmail(value);
+		}
+
+	}
+
+}
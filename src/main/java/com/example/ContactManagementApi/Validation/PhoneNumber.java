@@ -0,0 +1,45 @@
+package com.example.ContactManagementApi.Validation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+/**
+ * The annotated value must be a plus sign followed by a two-digit country code
+ * and a ten-digit number. Null values are valid, so
+ * the field may be combined with @NotBlank when it is required.
+ * 
+ * @see ContactFields#isPhoneNumber(CharSequence)
+ */
+@Documented
+@Constraint(validatedBy = PhoneNumber.Validator.class)
+@Target({ FIELD, PARAMETER })
+@Retention(RUNTIME)
+public @interface PhoneNumber {
+
+	String message() default "Invalid phone number format. It should start with + and countrycode";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+
+	/**
+	 * Validates the annotated value with {@link ContactFields#isPhoneNumber(CharSequence)}.
+	 */
+	class Validator implements ConstraintValidator<PhoneNumber, CharSequence> {
+
+		@Override
+		public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+			return value == null || ContactFields.isPhoneNumber(value);
+		}
+
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.example.ContactManagementApi.Warmup;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the warm-up phase as the "warmup" health component, which is part of
+ * the readiness group.
+ * 
+ * It is OUT_OF_SERVICE until the warm-up has finished and then UP, including
+ * when the warm-up failed or ran out of time, so a cold instance is never kept
+ * out of rotation for good. The details list what was warmed.
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+	// Injects the runner that holds the warm-up report
+	@Autowired
+	private WarmupRunner warmupRunner;
+
+	@Override
+	public Health health() {
+		WarmupReport report = warmupRunner.getReport();
+		Health.Builder health = report.status().isFinished() ? Health.up() : Health.outOfService();
+		health.withDetail("status", report.status()).withDetail("elapsedMs", report.elapsed().toMillis())
+				.withDetail("preloadedUsers", report.preloadedUsers()).withDetail("requests", report.requests());
+		if (report.error() != null) {
+			health.withDetail("error", report.error());
+		}
+		return health.build();
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.example.ContactManagementApi.Warmup;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the warm-up phase that runs before the
+ * application reports ready, bound from the app.warmup prefix.
+ */
+@ConfigurationProperties("app.warmup")
+public class WarmupProperties {
+
+	/**
+	 * Whether synthetic traffic is sent before the application reports ready.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The longest the warm-up may take; the application reports ready once it is
+	 * spent, even if not every round was sent.
+	 */
+	private Duration budget = Duration.ofSeconds(30);
+
+	/**
+	 * The number of times each warm-up request is sent.
+	 */
+	private int iterations = 1000;
+
+	/**
+	 * The number of users whose roles are loaded into the second-level cache.
+	 */
+	private int preloadUsers = 100;
+
+	/**
+	 * The number of most recent contacts (and contacts with duplicates) that are
+	 * requested by ID.
+	 */
+	private int hotContacts = 20;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Duration getBudget() {
+		return budget;
+	}
+
+	public void setBudget(Duration budget) {
+		this.budget = budget;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public void setIterations(int iterations) {
+		this.iterations = iterations;
+	}
+
+	public int getPreloadUsers() {
+		return preloadUsers;
+	}
+
+	public void setPreloadUsers(int preloadUsers) {
+		this.preloadUsers = preloadUsers;
+	}
+
+	public int getHotContacts() {
+		return hotContacts;
+	}
+
+	public void setHotContacts(int hotContacts) {
+		this.hotContacts = hotContacts;
+	}
+
+}
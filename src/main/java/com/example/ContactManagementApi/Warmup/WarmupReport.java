@@ -0,0 +1,45 @@
+package com.example.ContactManagementApi.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Describes the progress and outcome of the warm-up phase: how long it took,
+ * how many users were preloaded and how each warm-up request performed.
+ */
+public record WarmupReport(Status status, Duration elapsed, int preloadedUsers, List<WarmedRequest> requests,
+		String error) {
+
+	/**
+	 * The state of the warm-up phase.
+	 */
+	public enum Status {
+		PENDING, RUNNING, COMPLETED, BUDGET_EXCEEDED, FAILED, DISABLED;
+
+		/**
+		 * Whether the warm-up has finished, successfully or not, so the application
+		 * may receive traffic.
+		 */
+		public boolean isFinished() {
+			return this != PENDING && this != RUNNING;
+		}
+	}
+
+	/**
+	 * The number of times a warm-up request was sent, how many responses had an
+	 * unexpected status, and its latency on the first call and over the last
+	 * calls.
+	 */
+	public record WarmedRequest(String request, int count, int unexpectedStatuses, double firstMillis,
+			double recentMillis) {
+	}
+
+	static WarmupReport pending() {
+		return new WarmupReport(Status.PENDING, Duration.ZERO, 0, List.of(), null);
+	}
+
+	static WarmupReport disabled() {
+		return new WarmupReport(Status.DISABLED, Duration.ZERO, 0, List.of(), null);
+	}
+
+}
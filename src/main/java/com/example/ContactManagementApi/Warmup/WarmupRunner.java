@@ -0,0 +1,251 @@
+package com.example.ContactManagementApi.Warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import com.example.ContactManagementApi.Entity.User;
+import com.example.ContactManagementApi.Enum.RoleEnum;
+import com.example.ContactManagementApi.Repository.ContactRepository;
+import com.example.ContactManagementApi.Repository.ContactWithDuplicatesRepository;
+import com.example.ContactManagementApi.Repository.UserRepository;
+import com.example.ContactManagementApi.Security.JwtUtils;
+import com.example.ContactManagementApi.Service.UserService;
+import com.example.ContactManagementApi.Warmup.WarmupReport.Status;
+import com.example.ContactManagementApi.Warmup.WarmupReport.WarmedRequest;
+
+/**
+ * Warms up the application before it reports ready, so the first real requests
+ * after a deploy do not pay for JIT compilation, lazily initialized Hibernate
+ * and Jackson metadata or cold caches.
+ * 
+ * Runners complete before Spring Boot publishes the ACCEPTING_TRAFFIC
+ * readiness state, and the web server is already listening, so the warm-up
+ * sends synthetic requests to the local port: they pass through Tomcat, the
+ * JWT filter, the controllers, validation and the JSON serializers. Only
+ * requests without side effects are sent: reads with a token generated for the
+ * first admin, and registrations and logins that fail validation. It first
+ * loads the roles of the first users into the second-level cache.
+ * 
+ * The warm-up stops once its time budget is spent, and any failure is
+ * reported rather than thrown, so it can delay readiness but never prevent it.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE) // Runs after the other runners, e.g. RolesSeeding
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupRunner implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+	// Weight of the latest call in the recent latency of a request
+	private static final double RECENT_WEIGHT = 0.05;
+
+	// Injects the warm-up settings
+	@Autowired
+	private WarmupProperties properties;
+
+	// Injects the context to find the port of the web server
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	// Injects the UserService to preload users and their roles
+	@Autowired
+	private UserService userService;
+
+	// Injects the repositories to find the admin and the hot contacts
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ContactRepository contactRepository;
+
+	@Autowired
+	private ContactWithDuplicatesRepository contactWithDuplicatesRepository;
+
+	// Injects JwtUtils to sign a token for the warm-up requests
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	private volatile WarmupReport report = WarmupReport.pending();
+
+	/**
+	 * Returns the latest warm-up report; it is updated while the warm-up runs.
+	 */
+	public WarmupReport getReport() {
+		return report;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!properties.isEnabled() || !(applicationContext instanceof WebServerApplicationContext context)
+				|| context.getWebServer() == null) {
+			report = WarmupReport.disabled();
+			return;
+		}
+
+		long start = System.nanoTime();
+		long deadline = start + properties.getBudget().toNanos();
+		int preloadedUsers = 0;
+		List<RequestStats> stats = new ArrayList<>();
+		try {
+			report = new WarmupReport(Status.RUNNING, Duration.ZERO, 0, List.of(), null);
+			preloadedUsers = preloadUsers();
+			stats = warmupRequests(URI.create("http://localhost:" + context.getWebServer().getPort()));
+
+			Status status = Status.COMPLETED;
+			HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+			rounds: for (int i = 0; i < properties.getIterations(); i++) {
+				for (RequestStats request : stats) {
+					if (System.nanoTime() - deadline > 0) {
+						status = Status.BUDGET_EXCEEDED;
+						break rounds;
+					}
+					request.send(client, i);
+				}
+				if (i % 100 == 0) {
+					report = report(Status.RUNNING, start, preloadedUsers, stats, null);
+				}
+			}
+			report = report(status, start, preloadedUsers, stats, null);
+			logger.info("Warm-up {} in {} ms: {}", status, report.elapsed().toMillis(), report.requests());
+		} catch (Exception e) {
+			report = report(Status.FAILED, start, preloadedUsers, stats, e.toString());
+			logger.warn("Warm-up failed after {} ms", report.elapsed().toMillis(), e);
+		}
+	}
+
+	// Loads the first users with their roles, which fills the roles cache
+	private int preloadUsers() {
+		if (properties.getPreloadUsers() <= 0) {
+			return 0;
+		}
+		return userService.allUsers(PageRequest.of(0, properties.getPreloadUsers(), Sort.by("id")))
+				.getNumberOfElements();
+	}
+
+	// Builds the warm-up requests; the list endpoints are left out, as they are
+	// not paged and may return every contact
+	private List<RequestStats> warmupRequests(URI baseUri) {
+		List<RequestStats> requests = new ArrayList<>();
+		requests.add(new RequestStats("POST /api/auth/login/user", 400,
+				List.of(post(baseUri.resolve("/api/auth/login/user"), "{\"username\":\"\",\"password\":\"\"}", null))));
+
+		Optional<User> admin = userRepository.findFirstByRolesNameOrderByIdAsc(RoleEnum.ROLE_ADMIN);
+		if (admin.isEmpty()) {
+			logger.info("No admin user exists, so only unauthenticated requests are warmed up");
+			return requests;
+		}
+		String token = jwtUtils.generateToken(admin.get());
+		PageRequest hotContacts = PageRequest.of(0, Math.max(properties.getHotContacts(), 1),
+				Sort.by(Sort.Direction.DESC, "id"));
+
+		requests.add(new RequestStats("GET /users/current", 200,
+				List.of(get(baseUri.resolve("/users/current"), token))));
+		requests.add(new RequestStats("GET /users/all", 200, List.of(get(baseUri.resolve("/users/all"), token))));
+		requests.add(new RequestStats("POST /api/contacts/register", 400,
+				List.of(post(baseUri.resolve("/api/contacts/register"), "{\"firstName\":\"Warm\",\"lastName\":\"Up\","
+						+ "\"email\":\"warm.up@example.com\",\"phoneNumber\":\"invalid\",\"address\":\"1 Main Street\"}",
+						token))));
+		if (properties.getHotContacts() > 0) {
+			List<HttpRequest> contacts = contactRepository.findAll(hotContacts).stream()
+					.map(contact -> get(baseUri.resolve("/api/contacts/retrieve/" + contact.getId()), token)).toList();
+			if (!contacts.isEmpty()) {
+				requests.add(new RequestStats("GET /api/contacts/retrieve/{id}", 200, contacts));
+			}
+			List<HttpRequest> duplicates = contactWithDuplicatesRepository.findAll(hotContacts).stream()
+					.map(contact -> get(baseUri.resolve("/api/duplicateContacts/retrieve/" + contact.getId()), token))
+					.toList();
+			if (!duplicates.isEmpty()) {
+				requests.add(new RequestStats("GET /api/duplicateContacts/retrieve/{id}", 200, duplicates));
+			}
+		}
+		return requests;
+	}
+
+	private static HttpRequest get(URI uri, String token) {
+		return HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token).timeout(Duration.ofSeconds(10))
+				.GET().build();
+	}
+
+	private static HttpRequest post(URI uri, String body, String token) {
+		HttpRequest.Builder request = HttpRequest.newBuilder(uri).header("Content-Type", "application/json")
+				.timeout(Duration.ofSeconds(10)).POST(BodyPublishers.ofString(body));
+		if (token != null) {
+			request.header("Authorization", "Bearer " + token);
+		}
+		return request.build();
+	}
+
+	private static WarmupReport report(Status status, long start, int preloadedUsers, List<RequestStats> stats,
+			String error) {
+		return new WarmupReport(status, Duration.ofNanos(System.nanoTime() - start), preloadedUsers,
+				stats.stream().map(RequestStats::toWarmedRequest).toList(), error);
+	}
+
+	/**
+	 * A warm-up request, sent in turn to each of its URIs, and its latencies.
+	 */
+	private static final class RequestStats {
+
+		private final String name;
+
+		private final int expectedStatus;
+
+		private final List<HttpRequest> requests;
+
+		private int count;
+
+		private int unexpectedStatuses;
+
+		private double firstMillis;
+
+		private double recentMillis;
+
+		RequestStats(String name, int expectedStatus, List<HttpRequest> requests) {
+			this.name = name;
+			this.expectedStatus = expectedStatus;
+			this.requests = requests;
+		}
+
+		void send(HttpClient client, int iteration) throws Exception {
+			long start = System.nanoTime();
+			int status = client.send(requests.get(iteration % requests.size()), BodyHandlers.discarding()).statusCode();
+			double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+			if (count++ == 0) {
+				firstMillis = millis;
+				recentMillis = millis;
+			} else {
+				recentMillis += RECENT_WEIGHT * (millis - recentMillis);
+			}
+			if (status != expectedStatus) {
+				unexpectedStatuses++;
+			}
+		}
+
+		WarmedRequest toWarmedRequest() {
+			return new WarmedRequest(name, count, unexpectedStatuses, Math.round(firstMillis * 100) / 100.0,
+					Math.round(recentMillis * 100) / 100.0);
+		}
+
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.example.ContactManagementApi.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import com.example.ContactManagementApi.Metrics.ServerTimingProperties;
+import com.example.ContactManagementApi.response.ServerTimingResponse;
+
+/**
+ * AdminController exposes runtime diagnostics settings to administrators.
+ * 
+ * Base path for all endpoints in this controller is /api/admin.
+ */
+@RestController
+@RequestMapping("/api/admin")
+@PreAuthorize("hasRole('ADMIN')") // Restricts every endpoint to the 'ADMIN' role.
+public class AdminController {
+
+	// Injects the live request timing settings.
+	@Autowired
+	private ServerTimingProperties serverTimingProperties;
+
+	
+	/**
+	 * Returns whether the Server-Timing header is enabled and which fraction of
+	 * requests has its stage durations logged.
+	 */
+	@GetMapping("/server-timing")
+	public ResponseEntity<ServerTimingResponse> serverTiming() {
+		return ResponseEntity.ok(ServerTimingResponse.from(serverTimingProperties));
+	}
+
+	
+	/**
+	 * Turns the Server-Timing header on or off and changes the log sample rate.
+	 * Settings that are not given are left unchanged.
+	 */
+	@PutMapping("/server-timing")
+	public ResponseEntity<ServerTimingResponse> updateServerTiming(@RequestParam(required = false) Boolean enabled,
+			@RequestParam(required = false) Double logSampleRate) {
+		if (enabled != null) {
+			serverTimingProperties.setEnabled(enabled);
+		}
+		if (logSampleRate != null) {
+			serverTimingProperties.setLogSampleRate(logSampleRate);
+		}
+		return ResponseEntity.ok(ServerTimingResponse.from(serverTimingProperties));
+	}
+
+}
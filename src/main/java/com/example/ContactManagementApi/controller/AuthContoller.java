@@ -13,6 +13,7 @@ import com.example.ContactManagementApi.Service.UserService;
 import com.example.ContactManagementApi.request.LoginRequest;
 import com.example.ContactManagementApi.request.SignupRequest;
 import com.example.ContactManagementApi.response.JwtResponse;
+import com.example.ContactManagementApi.response.UserResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -45,9 +46,9 @@ public class AuthContoller {
 		try {
 			// Calls UserService to register the user with ROLE_USER.
 			User createdUser = userService.registerUser(signupRequest);
-			return ResponseEntity.ok(createdUser);
+			return ResponseEntity.ok(UserResponse.from(createdUser));
 		} catch (IllegalArgumentException e) {
-			// Returns a bad request if there's an error (e.g., username already taken).
+			// Returns a bad request if there's an error (e.g., the role is not found).
 			return ResponseEntity.badRequest().body("Error: " + e.getMessage());
 		}
 	}
@@ -59,9 +60,9 @@ public class AuthContoller {
 		try {
 			// Calls UserService to register the user with ROLE_ADMIN.
 			User createdAdmin = userService.registerAdmin(signupRequest);
-			return ResponseEntity.ok(createdAdmin);
+			return ResponseEntity.ok(UserResponse.from(createdAdmin));
 		} catch (IllegalArgumentException e) {
-			// Returns a bad request if there's an error (e.g., username already taken).
+			// Returns a bad request if there's an error (e.g., the role is not found).
 			return ResponseEntity.badRequest().body("Error: " + e.getMessage());
 		}
 	}
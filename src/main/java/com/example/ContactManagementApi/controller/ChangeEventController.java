@@ -0,0 +1,42 @@
+package com.example.ContactManagementApi.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.example.ContactManagementApi.Outbox.ChangeStream;
+
+/**
+ * ChangeEventController streams the changes made to contacts, so integrations
+ * do not have to poll the contact lists.
+ * 
+ * Base path for all endpoints in this controller is /api/changes.
+ */
+@RestController
+@RequestMapping("/api/changes")
+@PreAuthorize("hasRole('ADMIN')") // Restricts every endpoint to the 'ADMIN' role.
+public class ChangeEventController {
+
+	// Injects the ChangeStream the clients are connected to.
+	@Autowired
+	private ChangeStream changeStream;
+
+	
+	/**
+	 * Streams the contact changes as server-sent events. A client resumes after
+	 * the offset in its Last-Event-ID header, which EventSource clients send when
+	 * reconnecting, or after the offset in the after parameter when it first
+	 * connects; without either, only new changes are sent.
+	 */
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+			@RequestParam(value = "after", required = false) Long after) {
+		return changeStream.subscribe(lastEventId != null ? lastEventId : after);
+	}
+
+}
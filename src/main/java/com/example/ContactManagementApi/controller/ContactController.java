@@ -8,9 +8,16 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.Exception.ResourceNotFoundException;
 import com.example.ContactManagementApi.Service.ContactService;
+import com.example.ContactManagementApi.Service.ResponseCache;
+import com.example.ContactManagementApi.Service.ResponseCache.Region;
+import com.example.ContactManagementApi.response.BatchItem;
+import com.example.ContactManagementApi.response.ContactResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -34,6 +41,13 @@ public class ContactController {
 	@Autowired
 	private ContactService contactService;
 
+	// Injects the cache of serialized list responses.
+	@Autowired
+	private ResponseCache responseCache;
+
+	// The largest number of contacts that can be requested at once.
+	private static final int MAX_BATCH_SIZE = 500;
+
 	
 	/**
 	 * Registers a new contact in the system. Accessible by users with either
@@ -41,23 +55,27 @@ public class ContactController {
 	 */
 	@PostMapping("/register")
 	@PreAuthorize("hasAnyRole('ADMIN', 'USER')") // Allows both 'ADMIN' and 'USER' roles to create contacts.
-	public ResponseEntity<Contact> createContact(@Validated @RequestBody Contact contact) {
+	public ResponseEntity<ContactResponse> createContact(@Validated @RequestBody Contact contact) {
 		// Calls the service layer to create and return the new contact.
 		Contact registerContact = contactService.createContact(contact);
-		return ResponseEntity.ok(registerContact); // Returns a 200 OK response with the created contact.
+		return ResponseEntity.ok(ContactResponse.from(registerContact)); // Returns a 200 OK response with the created contact.
 	}
 
 	
 	/**
 	 * Retrieves a list of all contacts. Only accessible by users with the 'ADMIN'
 	 * role.
+	 * 
+	 * The serialized list is cached until the next write, so repeated requests are
+	 * answered with the stored bytes, gzipped if the client accepts it.
 	 */
 	@GetMapping("/retrieve")
 	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
-	public ResponseEntity<List<Contact>> getAllContacts() {
-		// Calls the service layer to retrieve the list of all contacts.
-		List<Contact> getContacts = contactService.getAllContacts();
-		return ResponseEntity.ok(getContacts); // Returns a 200 OK response with the list of contacts.
+	public ResponseEntity<byte[]> getAllContacts(HttpServletRequest request) {
+		// Returns the cached response, or calls the service layer to retrieve the list
+		// of all contacts and caches it.
+		return responseCache.respond(Region.CONTACTS, request,
+				() -> contactService.getAllContacts().stream().map(ContactResponse::from).toList());
 	}
 
 	
@@ -67,12 +85,34 @@ public class ContactController {
 	 */
 	@GetMapping("/retrieve/{id}")
 	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
-	public ResponseEntity<Contact> getContactById(@PathVariable Long id) {
+	public ResponseEntity<ContactResponse> getContactById(@PathVariable Long id) {
 		// Calls the service layer to find the contact by ID, throws exception if not
 		// found.
 		Contact getContact = contactService.getContactById(id)
-				.orElseThrow(() -> new RuntimeException("contact not found"));
-		return ResponseEntity.ok(getContact); // Returns a 200 OK response with the found contact.
+				.orElseThrow(() -> new ResourceNotFoundException("Contact", id));
+		return ResponseEntity.ok(ContactResponse.from(getContact)); // Returns a 200 OK response with the found contact.
+	}
+
+	
+	/**
+	 * Retrieves the contacts with the given IDs, e.g. ?ids=1,2,3, in the requested
+	 * order with a single call. IDs without a contact are returned with found set
+	 * to false. Only accessible by users with the 'ADMIN' role.
+	 */
+	@GetMapping("/retrieve/batch")
+	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
+	public ResponseEntity<?> getContactsByIds(@RequestParam List<Long> ids) {
+		// Rejects empty IDs and requests for more contacts than allowed.
+		if (ids.contains(null)) {
+			return ResponseEntity.badRequest().body("Error: IDs must not be empty");
+		}
+		if (ids.size() > MAX_BATCH_SIZE) {
+			return ResponseEntity.badRequest().body("Error: at most " + MAX_BATCH_SIZE + " IDs can be requested at once");
+		}
+
+		// Calls the service layer to load the contacts, with null for missing IDs.
+		List<Contact> contacts = contactService.getContactsByIds(ids);
+		return ResponseEntity.ok(BatchItem.from(ids, contacts, ContactResponse::from)); // Returns a 200 OK response with one entry per ID.
 	}
 
 	
@@ -82,11 +122,11 @@ public class ContactController {
 	 */
 	@PutMapping("/update/{id}")
 	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
-	public ResponseEntity<Contact> updateContact(@PathVariable Long id, @Validated @RequestBody Contact contact) {
+	public ResponseEntity<ContactResponse> updateContact(@PathVariable Long id, @Validated @RequestBody Contact contact) {
 		// Calls the service layer to update the contact by ID and return the updated
 		// details.
 		Contact updateContactById = contactService.updateContact(id, contact);
-		return ResponseEntity.ok(updateContactById); // Returns a 200 OK response with the updated contact.
+		return ResponseEntity.ok(ContactResponse.from(updateContactById)); // Returns a 200 OK response with the updated contact.
 	}
 
 	
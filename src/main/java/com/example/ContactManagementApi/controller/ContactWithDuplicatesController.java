@@ -12,9 +12,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.example.ContactManagementApi.Entity.ContactWithDuplicates;
+import com.example.ContactManagementApi.Exception.ResourceNotFoundException;
 import com.example.ContactManagementApi.Service.ContactWithDuplicatesService;
+import com.example.ContactManagementApi.Service.ResponseCache;
+import com.example.ContactManagementApi.Service.ResponseCache.Region;
+import com.example.ContactManagementApi.response.BatchItem;
+import com.example.ContactManagementApi.response.ContactResponse;
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/duplicateContacts")
@@ -24,6 +31,13 @@ public class ContactWithDuplicatesController {
 	@Autowired
 	private ContactWithDuplicatesService contactWithDuplicatesService;
 
+	// Injects the cache of serialized list responses.
+	@Autowired
+	private ResponseCache responseCache;
+
+	// The largest number of contacts that can be requested at once.
+	private static final int MAX_BATCH_SIZE = 500;
+
 	
 	/**
 	 * Registers a new contact. This endpoint allows users with either 'ADMIN' or
@@ -31,23 +45,27 @@ public class ContactWithDuplicatesController {
 	 */
 	@PostMapping("/register")
 	@PreAuthorize("hasAnyRole('ADMIN', 'USER')") // Authorizes both 'ADMIN' and 'USER' roles.
-	public ResponseEntity<ContactWithDuplicates> createContact(@Validated @RequestBody ContactWithDuplicates contact) {
+	public ResponseEntity<ContactResponse> createContact(@Validated @RequestBody ContactWithDuplicates contact) {
 		// Calls the service layer to create a new contact and return it.
 		ContactWithDuplicates registerContact = contactWithDuplicatesService.createContact(contact);
-		return ResponseEntity.ok(registerContact); // Returns a 200 OK response with the registered contact.
+		return ResponseEntity.ok(ContactResponse.from(registerContact)); // Returns a 200 OK response with the registered contact.
 	}
 
 	
 	/**
-	 * Retrieves a list of all contacts. Only users with the 'ADMIN' role can access
-	 * this endpoint.
+	 * Retrieves a list of all contacts. Only accessible by users with the 'ADMIN'
+	 * role.
+	 * 
+	 * The serialized list is cached until the next write, so repeated requests are
+	 * answered with the stored bytes, gzipped if the client accepts it.
 	 */
 	@GetMapping("/retrieve")
 	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
-	public ResponseEntity<List<ContactWithDuplicates>> getAllContacts() {
-		// Calls the service layer to get the list of all contacts.
-		List<ContactWithDuplicates> getContacts = contactWithDuplicatesService.getAllContacts();
-		return ResponseEntity.ok(getContacts); // Returns a 200 OK response with the registered contact.
+	public ResponseEntity<byte[]> getAllContacts(HttpServletRequest request) {
+		// Returns the cached response, or calls the service layer to retrieve the list
+		// of all contacts and caches it.
+		return responseCache.respond(Region.DUPLICATE_CONTACTS, request,
+				() -> contactWithDuplicatesService.getAllContacts().stream().map(ContactResponse::from).toList());
 	}
 
 	
@@ -57,12 +75,34 @@ public class ContactWithDuplicatesController {
 	 */
 	@GetMapping("/retrieve/{id}")
 	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
-	public ResponseEntity<ContactWithDuplicates> getContactById(@PathVariable Long id) {
+	public ResponseEntity<ContactResponse> getContactById(@PathVariable Long id) {
 		// Calls the service layer to retrieve a contact by ID, throws an exception if
 		// not found.
 		ContactWithDuplicates getContact = contactWithDuplicatesService.getContactById(id)
-				.orElseThrow(() -> new RuntimeException("contact not found"));
-		return ResponseEntity.ok(getContact); // Returns a 200 OK response with the registered contact.
+				.orElseThrow(() -> new ResourceNotFoundException("Contact", id));
+		return ResponseEntity.ok(ContactResponse.from(getContact)); // Returns a 200 OK response with the registered contact.
+	}
+
+	
+	/**
+	 * Retrieves the contacts with the given IDs, e.g. ?ids=1,2,3, in the requested
+	 * order with a single call. IDs without a contact are returned with found set
+	 * to false. Only accessible by users with the 'ADMIN' role.
+	 */
+	@GetMapping("/retrieve/batch")
+	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
+	public ResponseEntity<?> getContactsByIds(@RequestParam List<Long> ids) {
+		// Rejects empty IDs and requests for more contacts than allowed.
+		if (ids.contains(null)) {
+			return ResponseEntity.badRequest().body("Error: IDs must not be empty");
+		}
+		if (ids.size() > MAX_BATCH_SIZE) {
+			return ResponseEntity.badRequest().body("Error: at most " + MAX_BATCH_SIZE + " IDs can be requested at once");
+		}
+
+		// Calls the service layer to load the contacts, with null for missing IDs.
+		List<ContactWithDuplicates> contacts = contactWithDuplicatesService.getContactsByIds(ids);
+		return ResponseEntity.ok(BatchItem.from(ids, contacts, ContactResponse::from)); // Returns a 200 OK response with one entry per ID.
 	}
 
 	
@@ -72,12 +112,12 @@ public class ContactWithDuplicatesController {
 	 */
 	@PutMapping("/update/{id}")
 	@PreAuthorize("hasRole('ADMIN')") // Restricts access to 'ADMIN' role only.
-	public ResponseEntity<ContactWithDuplicates> updateContact(@PathVariable Long id,
+	public ResponseEntity<ContactResponse> updateContact(@PathVariable Long id,
 			@Validated @RequestBody ContactWithDuplicates contact) {
 		// Calls the service layer to update the contact details and return the updated
 		// entity.
 		ContactWithDuplicates updateContactById = contactWithDuplicatesService.updateContact(id, contact);
-		return ResponseEntity.ok(updateContactById); // Returns a 200 OK response with the registered contact.
+		return ResponseEntity.ok(ContactResponse.from(updateContactById)); // Returns a 200 OK response with the registered contact.
 	}
 
 	
@@ -1,7 +1,10 @@
 package com.example.ContactManagementApi.controller;
 
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -12,9 +15,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.example.ContactManagementApi.Entity.User;
 import com.example.ContactManagementApi.Service.UserService;
+import com.example.ContactManagementApi.response.PageResponse;
+import com.example.ContactManagementApi.response.UserResponse;
 
 /**
  * UserController handles user-related operations such as fetching,updating and
@@ -33,33 +39,43 @@ public class UserController {
 	@Autowired
 	private UserService userService;
 
+	// The largest page of users that can be requested at once.
+	private static final int MAX_PAGE_SIZE = 100;
+
 	
 	/**
 	 * Fetches the currently authenticated user. This method retrieves the user that
 	 * is currently authenticated from the security context.
 	 */
 	@GetMapping("/current")
-	public ResponseEntity<User> authenticatedUser() {
+	public ResponseEntity<UserResponse> authenticatedUser() {
 		// Retrieves the authentication object from the security context.
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
 		// Retrieves the authenticated user (User principal) from the authentication
 		// object.
 		User currentUser = (User) authentication.getPrincipal();
-		return ResponseEntity.ok(currentUser); // Returns a 200 OK response with the current user details.
+		return ResponseEntity.ok(UserResponse.from(currentUser)); // Returns a 200 OK response with the current user details.
 	}
 
 	
 	/**
-	 * Retrieves all users in the system. Only users with the 'ADMIN' role can
-	 * access this endpoint.
+	 * Retrieves one page of users in the system, ordered by their ID. Only users
+	 * with the 'ADMIN' role can access this endpoint.
 	 */
 	@GetMapping("/all")
 	@PreAuthorize("hasRole('ADMIN')") // Authorizes only 'ADMIN' role to access this endpoint.
-	public ResponseEntity<List<User>> allUsers() {
-		// Calls the service layer to fetch all users
-		List<User> users = userService.allUsers();
-		return ResponseEntity.ok(users); // Returns a 200 OK response with the list of all users.
+	public ResponseEntity<PageResponse<UserResponse>> allUsers(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+		// Builds the page request, keeping the page size within sensible bounds.
+		Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+				Sort.by("id"));
+
+		// Calls the service layer to fetch the requested page of users
+		Page<User> users = userService.allUsers(pageable);
+
+		// Returns a 200 OK response with the page of users, without password hashes.
+		return ResponseEntity.ok(PageResponse.from(users, UserResponse::from));
 	}
 
 	
@@ -69,11 +85,11 @@ public class UserController {
 	 */
 	@PutMapping("/{id}")
 	@PreAuthorize("hasRole('ADMIN')") // Authorizes only 'ADMIN' role to access this endpoint.
-	public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User user) {
+	public ResponseEntity<UserResponse> updateUser(@PathVariable Long id, @RequestBody User user) {
 		// Calls the service layer to update the user based on the provided ID and user
 		// details.
 		User updatedUser = userService.updateUser(id, user);
-		return ResponseEntity.ok(updatedUser); // Returns a 200 OK response with the updated user details.
+		return ResponseEntity.ok(UserResponse.from(updatedUser)); // Returns a 200 OK response with the updated user details.
 	}
 
 	
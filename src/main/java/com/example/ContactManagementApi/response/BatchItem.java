@@ -0,0 +1,27 @@
+package com.example.ContactManagementApi.response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Represents the result for one ID of a batch request: whether an entity with
+ * that ID was found and, if so, its response.
+ */
+public record BatchItem<T>(Long id, boolean found, T contact) {
+
+	/**
+	 * Pairs each requested ID with the result at the same position, which is null
+	 * when nothing was found, mapping found results with the provided function.
+	 */
+	public static <S, T> List<BatchItem<T>> from(List<Long> ids, List<S> results,
+			Function<? super S, ? extends T> mapper) {
+		List<BatchItem<T>> items = new ArrayList<>(ids.size());
+		for (int i = 0; i < ids.size(); i++) {
+			S result = results.get(i);
+			items.add(new BatchItem<>(ids.get(i), result != null, result == null ? null : mapper.apply(result)));
+		}
+		return items;
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.example.ContactManagementApi.response;
+
+import java.time.Instant;
+import com.example.ContactManagementApi.Entity.ContactEvent;
+import com.example.ContactManagementApi.Enum.ChangeType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * Represents a contact change sent on the change stream. The payload is the
+ * contact as returned by the API for created and updated contacts, the updated
+ * and deleted IDs for merges, and null for deletions.
+ */
+public record ChangeEventResponse(Long id, String source, ChangeType type, Long contactId, Instant occurredAt,
+		@JsonRawValue String payload) {
+
+	/**
+	 * Creates a {@link ChangeEventResponse} from the given outbox event, keeping
+	 * its stored JSON payload as is.
+	 */
+	public static ChangeEventResponse from(ContactEvent event) {
+		return new ChangeEventResponse(event.getId(), event.getSource(), event.getType(), event.getContactId(),
+				event.getCreatedAt().toInstant(), event.getPayload());
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.example.ContactManagementApi.response;
+
+import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.Entity.ContactWithDuplicates;
+
+/**
+ * Represents a contact returned by the API, both for contacts and for contacts
+ * that may have duplicates.
+ */
+public record ContactResponse(Long id, String firstName, String lastName, String email, String phoneNumber,
+		String address) {
+
+	/**
+	 * Creates a {@link ContactResponse} from the given contact entity.
+	 */
+	public static ContactResponse from(Contact contact) {
+		return new ContactResponse(contact.getId(), contact.getFirstName(), contact.getLastName(), contact.getEmail(),
+				contact.getPhoneNumber(), contact.getAddress());
+	}
+
+	/**
+	 * Creates a {@link ContactResponse} from the given contact with duplicates
+	 * entity.
+	 */
+	public static ContactResponse from(ContactWithDuplicates contact) {
+		return new ContactResponse(contact.getId(), contact.getFirstName(), contact.getLastName(), contact.getEmail(),
+				contact.getPhoneNumber(), contact.getAddress());
+	}
+
+}
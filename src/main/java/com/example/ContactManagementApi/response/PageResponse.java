@@ -0,0 +1,25 @@
+package com.example.ContactManagementApi.response;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+
+/**
+ * Represents one page of results returned by the API.
+ * 
+ * It carries the content of the page together with the page number, page size
+ * and the total number of elements and pages.
+ */
+public record PageResponse<T>(List<T> content, int page, int size, long totalElements, int totalPages) {
+
+	/**
+	 * Creates a {@link PageResponse} from the given page, mapping each element with
+	 * the provided function.
+	 */
+	public static <S, T> PageResponse<T> from(Page<S> page, Function<? super S, ? extends T> mapper) {
+		List<T> content = page.getContent().stream().<T>map(mapper).toList();
+		return new PageResponse<>(content, page.getNumber(), page.getSize(), page.getTotalElements(),
+				page.getTotalPages());
+	}
+
+}
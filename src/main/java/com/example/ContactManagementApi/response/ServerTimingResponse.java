@@ -0,0 +1,17 @@
+package com.example.ContactManagementApi.response;
+
+import com.example.ContactManagementApi.Metrics.ServerTimingProperties;
+
+/**
+ * Represents the current request timing settings returned by the admin API.
+ */
+public record ServerTimingResponse(boolean enabled, double logSampleRate) {
+
+	/**
+	 * Creates a {@link ServerTimingResponse} from the live settings.
+	 */
+	public static ServerTimingResponse from(ServerTimingProperties properties) {
+		return new ServerTimingResponse(properties.isEnabled(), properties.getLogSampleRate());
+	}
+
+}
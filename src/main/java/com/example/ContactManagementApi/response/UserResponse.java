@@ -0,0 +1,28 @@
+package com.example.ContactManagementApi.response;
+
+import java.util.EnumSet;
+import java.util.Set;
+import com.example.ContactManagementApi.Entity.Role;
+import com.example.ContactManagementApi.Entity.User;
+import com.example.ContactManagementApi.Enum.RoleEnum;
+
+/**
+ * Represents the public view of a user returned by the API.
+ * 
+ * Only the identifier, username and role names are exposed; the password hash
+ * and the computed authorities of the User entity are never serialized.
+ */
+public record UserResponse(Long id, String username, Set<RoleEnum> roles) {
+
+	/**
+	 * Creates a {@link UserResponse} from the given user entity.
+	 */
+	public static UserResponse from(User user) {
+		Set<RoleEnum> roles = EnumSet.noneOf(RoleEnum.class);
+		for (Role role : user.getRoles()) {
+			roles.add(role.getName());
+		}
+		return new UserResponse(user.getId(), user.getUsername(), roles);
+	}
+
+}
@@ -0,0 +1,17 @@
+-- Indexes for the lookups the application performs.
+
+-- findByUsername and existsByUsername on every login and JWT-authenticated
+-- request; usernames are unique by design.
+create unique index uk_user_username on user (username);
+
+-- Role names are unique; RoleRegistry resolves roles by name.
+create unique index uk_role_name on role (name);
+
+-- The primary key (user_id, role_id) serves loading the roles of a user; this
+-- covering index serves the reverse direction and the role_id foreign key.
+create index idx_user_roles_role_user on user_roles (role_id, user_id);
+
+-- findByEmail and findByPhoneNumber on the duplicates table, which allows
+-- repeated values and so cannot use unique constraints.
+create index idx_contact_with_duplicates_email on contact_with_duplicates (email);
+create index idx_contact_with_duplicates_phone_number on contact_with_duplicates (phone_number);
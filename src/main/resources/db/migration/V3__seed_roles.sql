@@ -0,0 +1,8 @@
+-- The fixed set of roles (RoleEnum), so they exist before the application
+-- starts and no longer have to be seeded on startup.
+
+insert into role (name) select 'ROLE_USER' from dual
+    where not exists (select 1 from role where name = 'ROLE_USER');
+
+insert into role (name) select 'ROLE_ADMIN' from dual
+    where not exists (select 1 from role where name = 'ROLE_ADMIN');
@@ -0,0 +1,15 @@
+-- First responses to requests sent with an Idempotency-Key header, used when
+-- app.idempotency.store=jdbc. The key is a SHA-256 hash of the user, the
+-- endpoint and the header value; expired rows are deleted by the application.
+
+create table idempotency_key (
+    key_hash char(64) not null,
+    request_hash char(64) not null,
+    status int not null,
+    content_type varchar(255),
+    body mediumblob,
+    expires_at datetime(6) not null,
+    primary key (key_hash)
+);
+
+create index idx_idempotency_key_expires_at on idempotency_key (expires_at);
@@ -0,0 +1,14 @@
+-- Transactional outbox of contact changes. Each write through the contact
+-- services inserts one row in its own transaction; the relay publishes the rows
+-- in id order, and the id is the offset consumers resume from. Rows older than
+-- app.outbox.retention are deleted by the application.
+
+create table contact_event (
+    id bigint not null auto_increment,
+    source varchar(32) not null,
+    type varchar(16) not null,
+    contact_id bigint,
+    payload longtext,
+    created_at datetime(6) not null,
+    primary key (id)
+);
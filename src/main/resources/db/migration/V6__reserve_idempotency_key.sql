@@ -0,0 +1,5 @@
+-- A request reserves its idempotency key before it runs by inserting a row with
+-- no status, which expires after app.idempotency.in-flight-timeout. Retries on
+-- other instances wait for the row to be completed instead of running again.
+
+alter table idempotency_key modify status int null;
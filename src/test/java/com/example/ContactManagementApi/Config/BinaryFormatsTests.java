@@ -0,0 +1,85 @@
+package com.example.ContactManagementApi.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import com.example.ContactManagementApi.Entity.Contact;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class BinaryFormatsTests {
+
+	private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	private HttpHeaders adminHeaders;
+
+	@BeforeEach
+	void loginAdmin() {
+		Map<String, String> credentials = Map.of("username", "binary-admin", "password", "secret");
+		restTemplate.postForEntity("/api/auth/signup/admin", credentials, String.class);
+		Map<?, ?> login = restTemplate.postForObject("/api/auth/login/admin", credentials, Map.class);
+		adminHeaders = new HttpHeaders();
+		adminHeaders.setBearerAuth((String) login.get("token"));
+	}
+
+	@Test
+	void contactsCanBeRegisteredAndRetrievedAsCbor() throws Exception {
+		ObjectMapper cbor = new CBORMapper();
+		Contact contact = new Contact();
+		contact.setFirstName("Binary");
+		contact.setLastName("Format");
+		contact.setEmail("binary@example.com");
+		contact.setPhoneNumber("+911234500000");
+
+		HttpHeaders headers = new HttpHeaders(adminHeaders);
+		headers.setContentType(MediaType.APPLICATION_CBOR);
+		headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+		ResponseEntity<byte[]> created = restTemplate.exchange("/api/contacts/register", HttpMethod.POST,
+				new HttpEntity<>(cbor.writeValueAsBytes(contact), headers), byte[].class);
+		assertEquals(HttpStatus.OK, created.getStatusCode());
+		assertEquals(MediaType.APPLICATION_CBOR, created.getHeaders().getContentType());
+		Contact saved = cbor.readValue(created.getBody(), Contact.class);
+
+		ResponseEntity<byte[]> found = restTemplate.exchange("/api/contacts/retrieve/" + saved.getId(),
+				HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+		assertEquals("binary@example.com", cbor.readValue(found.getBody(), Contact.class).getEmail());
+	}
+
+	@Test
+	void cachedListsAreEncodedPerAcceptHeader() throws Exception {
+		HttpHeaders headers = new HttpHeaders(adminHeaders);
+		headers.setAccept(List.of(SMILE));
+		ResponseEntity<byte[]> smile = restTemplate.exchange("/api/contacts/retrieve", HttpMethod.GET,
+				new HttpEntity<>(headers), byte[].class);
+		assertTrue(SMILE.isCompatibleWith(smile.getHeaders().getContentType()));
+		new SmileMapper().readValue(smile.getBody(), new TypeReference<List<Contact>>() {
+		});
+
+		// Any other Accept header still gets JSON
+		headers.setAccept(List.of(MediaType.ALL));
+		ResponseEntity<String> json = restTemplate.exchange("/api/contacts/retrieve", HttpMethod.GET,
+				new HttpEntity<>(headers), String.class);
+		assertEquals(MediaType.APPLICATION_JSON, json.getHeaders().getContentType());
+		assertTrue(json.getBody().startsWith("["));
+	}
+
+}
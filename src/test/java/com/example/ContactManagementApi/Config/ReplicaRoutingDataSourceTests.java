@@ -0,0 +1,125 @@
+package com.example.ContactManagementApi.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = { "app.datasource.routing.enabled=true",
+		"app.datasource.routing.replicas[0].url=jdbc:h2:mem:contact_management_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"app.datasource.routing.replicas[0].username=sa", "app.datasource.routing.lag-query=select 0",
+		"app.datasource.routing.lag-check-interval=1h" })
+class ReplicaRoutingDataSourceTests {
+
+	private static final String PRIMARY = "CONTACT_MANAGEMENT";
+
+	private static final String REPLICA = "CONTACT_MANAGEMENT_REPLICA";
+
+	@Autowired
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@Autowired
+	private ReplicaLagMonitor replicaLagMonitor;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void markReplicaHealthy() {
+		replicaLagMonitor.checkReplicas();
+	}
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionsUseTheReplica() {
+		assertEquals(REPLICA, databaseName(true));
+	}
+
+	@Test
+	void readWriteTransactionsUseThePrimary() {
+		assertEquals(PRIMARY, databaseName(false));
+	}
+
+	@Test
+	void readsFallBackToThePrimaryWhenTheReplicaLags() {
+		routingDataSource.setReplicaHealthy("replica-0", false);
+
+		assertEquals(PRIMARY, databaseName(true));
+	}
+
+	@Test
+	void readsOfARecentWriterStayOnThePrimary() {
+		authenticate("writer");
+		databaseName(false);
+		assertEquals(PRIMARY, databaseName(true));
+
+		authenticate("reader");
+		assertEquals(REPLICA, databaseName(true));
+	}
+
+	@Test
+	void accessOutsideATransactionDoesNotMakeTheUserSticky() {
+		authenticate("background");
+		assertEquals(PRIMARY, jdbcTemplate.queryForObject("select database()", String.class));
+
+		assertEquals(REPLICA, databaseName(true));
+	}
+
+	@Test
+	void replicaPoolPublishesHikariMetrics() {
+		databaseName(true);
+
+		assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica-0").gauge());
+	}
+
+	@Test
+	void replicaPoolsAreClosedWithTheRoutingDataSource() throws Exception {
+		HikariDataSource primary = new HikariDataSource();
+		HikariDataSource replica = new HikariDataSource();
+		ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, Map.of("replica", replica),
+				new ReadYourWritesTracker(Duration.ZERO));
+
+		dataSource.destroy();
+
+		assertTrue(replica.isClosed());
+		assertFalse(primary.isClosed());
+	}
+
+	// Returns the name of the database used by a transaction with the given flag
+	private String databaseName(boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+	}
+
+	private static void authenticate(String username) {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.NO_AUTHORITIES));
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.example.ContactManagementApi.Exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.sql.SQLException;
+import java.util.Map;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class GlobalExceptionHandlerTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private GlobalExceptionHandler exceptionHandler;
+
+	private HttpHeaders adminHeaders;
+
+	@BeforeEach
+	void loginAdmin() {
+		Map<String, String> credentials = Map.of("username", "errors-admin", "password", "secret");
+		restTemplate.postForEntity("/api/auth/signup/admin", credentials, String.class);
+		Map<?, ?> login = restTemplate.postForObject("/api/auth/login/admin", credentials, Map.class);
+		adminHeaders = new HttpHeaders();
+		adminHeaders.setBearerAuth((String) login.get("token"));
+	}
+
+	@Test
+	void missingContactIsNotFound() {
+		ResponseEntity<Map> response = restTemplate.exchange("/api/contacts/retrieve/987654", HttpMethod.GET,
+				new HttpEntity<>(adminHeaders), Map.class);
+
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+		assertEquals("Contact 987654 not found", response.getBody().get("detail"));
+	}
+
+	@Test
+	void duplicateEmailAndUsernameAreConflicts() {
+		Map<String, String> contact = Map.of("firstName", "Conflict", "lastName", "Test", "email",
+				"conflict@example.com", "phoneNumber", "+919876543210");
+		restTemplate.exchange("/api/contacts/register", HttpMethod.POST, new HttpEntity<>(contact, adminHeaders),
+				String.class);
+		ResponseEntity<String> duplicate = restTemplate.exchange("/api/contacts/register", HttpMethod.POST,
+				new HttpEntity<>(contact, adminHeaders), String.class);
+
+		assertEquals(HttpStatus.CONFLICT, duplicate.getStatusCode());
+		assertEquals(HttpStatus.CONFLICT, restTemplate.postForEntity("/api/auth/signup/admin",
+				Map.of("username", "errors-admin", "password", "secret"), String.class).getStatusCode());
+	}
+
+	@Test
+	void onlyUniqueViolationsAreConflicts() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/contacts/register");
+		SQLException notNull = new SQLException("NULL not allowed for column EMAIL", "23502");
+		DataIntegrityViolationException other = new DataIntegrityViolationException("could not execute statement",
+				new ConstraintViolationException("could not execute statement", notNull, ConstraintKind.OTHER, null));
+
+		assertEquals(409, exceptionHandler
+				.handleDataIntegrityViolation(new DuplicateKeyException("duplicate key"), request).getStatus());
+		assertEquals(500, exceptionHandler.handleDataIntegrityViolation(other, request).getStatus());
+	}
+
+	@Test
+	void unknownPathIsNotFound() {
+		ResponseEntity<String> response = restTemplate.exchange("/api/contacts/unknown", HttpMethod.GET,
+				new HttpEntity<>(adminHeaders), String.class);
+
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+	}
+
+	@Test
+	void expectedOutcomesDoNotCaptureAStackTrace() {
+		assertEquals(0, new ResourceNotFoundException("Contact", 1L).getStackTrace().length);
+		assertEquals(0, new ConflictException("Username is already taken!").getStackTrace().length);
+	}
+
+}
@@ -0,0 +1,131 @@
+package com.example.ContactManagementApi.Idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import com.example.ContactManagementApi.Repository.ContactWithDuplicatesRepository;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "app.idempotency.store=jdbc")
+class IdempotencyTests {
+
+	private static final Map<String, String> CONTACT = Map.of("firstName", "Retry", "lastName", "Test", "email",
+			"retry@example.com", "phoneNumber", "+919876543210");
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ContactWithDuplicatesRepository contactWithDuplicatesRepository;
+
+	@Autowired
+	private IdempotencyStore store;
+
+	private HttpHeaders adminHeaders;
+
+	@BeforeEach
+	void loginAdmin() {
+		Map<String, String> credentials = Map.of("username", "idempotency-admin", "password", "secret");
+		restTemplate.postForEntity("/api/auth/signup/admin", credentials, String.class);
+		Map<?, ?> login = restTemplate.postForObject("/api/auth/login/admin", credentials, Map.class);
+		adminHeaders = new HttpHeaders();
+		adminHeaders.setBearerAuth((String) login.get("token"));
+	}
+
+	@Test
+	void retryIsAnsweredWithTheFirstResponse() {
+		long contacts = contactWithDuplicatesRepository.count();
+
+		ResponseEntity<Map> first = register("retry-1", CONTACT);
+		ResponseEntity<Map> retry = register("retry-1", CONTACT);
+
+		assertEquals(HttpStatus.OK, retry.getStatusCode());
+		assertEquals(first.getBody().get("id"), retry.getBody().get("id"));
+		assertNull(first.getHeaders().getFirst("Idempotent-Replayed"));
+		assertEquals("true", retry.getHeaders().getFirst("Idempotent-Replayed"));
+		assertEquals(contacts + 1, contactWithDuplicatesRepository.count());
+
+		// Another key registers the contact again
+		register("retry-2", CONTACT);
+		assertEquals(contacts + 2, contactWithDuplicatesRepository.count());
+	}
+
+	@Test
+	void keyReusedWithAnotherBodyIsRejected() {
+		register("reused", CONTACT);
+		ResponseEntity<Map> reused = register("reused", Map.of("firstName", "Other", "lastName", "Test", "email",
+				"other@example.com", "phoneNumber", "+919876543211"));
+
+		assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, reused.getStatusCode());
+	}
+
+	@Test
+	void concurrentRequestsShareOneExecution() throws Exception {
+		long contacts = contactWithDuplicatesRepository.count();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<ResponseEntity<Map>>> responses = executor.invokeAll(
+					List.of(() -> register("concurrent", CONTACT), () -> register("concurrent", CONTACT),
+							() -> register("concurrent", CONTACT), () -> register("concurrent", CONTACT)));
+			Object id = responses.get(0).get().getBody().get("id");
+			for (Future<ResponseEntity<Map>> response : responses) {
+				assertEquals(HttpStatus.OK, response.get().getStatusCode());
+				assertEquals(id, response.get().getBody().get("id"));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(contacts + 1, contactWithDuplicatesRepository.count());
+	}
+
+	@Test
+	void requestReservedByAnotherInstanceWaitsForIt() throws Exception {
+		long contacts = contactWithDuplicatesRepository.count();
+		// Another instance is running a request with the key
+		String key = IdempotencyFilter.storeKey("idempotency-admin", "/api/duplicateContacts/register", "elsewhere");
+		assertTrue(store.reserve(key, "other-instance"));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<ResponseEntity<Map>> response = executor.submit(() -> register("elsewhere", CONTACT));
+			Thread.sleep(500);
+			assertFalse(response.isDone());
+			assertEquals(contacts, contactWithDuplicatesRepository.count());
+
+			// The other request failed, so this one runs
+			store.release(key);
+			assertEquals(HttpStatus.OK, response.get(10, TimeUnit.SECONDS).getStatusCode());
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(contacts + 1, contactWithDuplicatesRepository.count());
+		assertFalse(store.reserve(key, "other-instance"));
+	}
+
+	private ResponseEntity<Map> register(String idempotencyKey, Map<String, String> contact) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.putAll(adminHeaders);
+		headers.set(IdempotencyFilter.HEADER, idempotencyKey);
+		return restTemplate.exchange("/api/duplicateContacts/register", HttpMethod.POST,
+				new HttpEntity<>(contact, headers), Map.class);
+	}
+
+}
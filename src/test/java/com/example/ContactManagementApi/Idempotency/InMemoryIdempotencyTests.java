@@ -0,0 +1,132 @@
+package com.example.ContactManagementApi.Idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import com.example.ContactManagementApi.Entity.ContactWithDuplicates;
+import com.example.ContactManagementApi.Repository.ContactWithDuplicatesRepository;
+import com.example.ContactManagementApi.Service.ContactWithDuplicatesService;
+
+// Runs with the default store, which keeps the responses in memory and leaves
+// concurrent requests to the filter
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class InMemoryIdempotencyTests {
+
+	private static final Map<String, String> CONTACT = Map.of("firstName", "Memory", "lastName", "Test", "email",
+			"memory@example.com", "phoneNumber", "+919876543220");
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ContactWithDuplicatesRepository contactWithDuplicatesRepository;
+
+	@Autowired
+	private IdempotencyStore store;
+
+	@SpyBean
+	private ContactWithDuplicatesService contactWithDuplicatesService;
+
+	private HttpHeaders adminHeaders;
+
+	@BeforeEach
+	void loginAdmin() {
+		Map<String, String> credentials = Map.of("username", "memory-idempotency-admin", "password", "secret");
+		restTemplate.postForEntity("/api/auth/signup/admin", credentials, String.class);
+		Map<?, ?> login = restTemplate.postForObject("/api/auth/login/admin", credentials, Map.class);
+		adminHeaders = new HttpHeaders();
+		adminHeaders.setBearerAuth((String) login.get("token"));
+	}
+
+	@Test
+	void retryIsAnsweredWithTheFirstResponse() {
+		assertInstanceOf(InMemoryIdempotencyStore.class, store);
+		long contacts = contactWithDuplicatesRepository.count();
+
+		ResponseEntity<Map> first = register("memory-retry", CONTACT);
+		ResponseEntity<Map> retry = register("memory-retry", CONTACT);
+
+		assertEquals(HttpStatus.OK, retry.getStatusCode());
+		assertEquals(first.getBody().get("id"), retry.getBody().get("id"));
+		assertNull(first.getHeaders().getFirst("Idempotent-Replayed"));
+		assertEquals("true", retry.getHeaders().getFirst("Idempotent-Replayed"));
+		assertEquals(contacts + 1, contactWithDuplicatesRepository.count());
+	}
+
+	@Test
+	void keyReusedWithAnotherBodyIsRejected() {
+		register("memory-reused", CONTACT);
+		ResponseEntity<Map> reused = register("memory-reused", Map.of("firstName", "Other", "lastName", "Test",
+				"email", "memory.other@example.com", "phoneNumber", "+919876543221"));
+
+		assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, reused.getStatusCode());
+	}
+
+	@Test
+	void concurrentRequestsWaitForTheFirst() throws Exception {
+		long contacts = contactWithDuplicatesRepository.count();
+		// Holds the first request in the service until the others have arrived
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			release.await(10, TimeUnit.SECONDS);
+			return invocation.callRealMethod();
+		}).when(contactWithDuplicatesService).createContact(any(ContactWithDuplicates.class));
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<ResponseEntity<Map>>> responses = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				responses.add(executor.submit(() -> register("memory-concurrent", CONTACT)));
+			}
+			Thread.sleep(500);
+			for (Future<ResponseEntity<Map>> response : responses) {
+				assertFalse(response.isDone());
+			}
+			release.countDown();
+
+			Object id = responses.get(0).get(10, TimeUnit.SECONDS).getBody().get("id");
+			for (Future<ResponseEntity<Map>> response : responses) {
+				assertEquals(HttpStatus.OK, response.get().getStatusCode());
+				assertEquals(id, response.get().getBody().get("id"));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		verify(contactWithDuplicatesService, times(1)).createContact(any(ContactWithDuplicates.class));
+		assertEquals(contacts + 1, contactWithDuplicatesRepository.count());
+	}
+
+	private ResponseEntity<Map> register(String idempotencyKey, Map<String, String> contact) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.putAll(adminHeaders);
+		headers.set(IdempotencyFilter.HEADER, idempotencyKey);
+		return restTemplate.exchange("/api/duplicateContacts/register", HttpMethod.POST,
+				new HttpEntity<>(contact, headers), Map.class);
+	}
+
+}
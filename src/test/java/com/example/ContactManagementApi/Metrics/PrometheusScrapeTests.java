@@ -0,0 +1,49 @@
+package com.example.ContactManagementApi.Metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+class PrometheusScrapeTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	void scrapeExposesRequestServiceJwtStatementAndPoolMetrics() {
+		Map<String, String> credentials = Map.of("username", "scraper", "password", "secret");
+		restTemplate.postForEntity("/api/auth/signup/user", credentials, String.class);
+		Map<?, ?> login = restTemplate.postForObject("/api/auth/login/user", credentials, Map.class);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setBearerAuth((String) login.get("token"));
+		ResponseEntity<String> current = restTemplate.exchange("/users/current", HttpMethod.GET,
+				new HttpEntity<>(headers), String.class);
+		assertEquals(HttpStatus.OK, current.getStatusCode());
+
+		// The scraper reads the endpoint without credentials
+		ResponseEntity<String> scrape = restTemplate.getForEntity("/actuator/prometheus", String.class);
+		assertEquals(HttpStatus.OK, scrape.getStatusCode());
+		String body = scrape.getBody();
+		assertTrue(body.contains("http_server_requests_seconds_bucket"));
+		assertTrue(body.contains("service_method_seconds_count{class=\"com.example.ContactManagementApi.Service.UserService\""));
+		assertTrue(body.contains("jwt_sign_seconds_count"));
+		assertTrue(body.contains("jwt_parse_seconds_count"));
+		assertTrue(body.contains("hibernate_statements_per_request_statements_count{uri=\"/users/current\""));
+		assertTrue(body.contains("hikaricp_connections_active"));
+	}
+
+}
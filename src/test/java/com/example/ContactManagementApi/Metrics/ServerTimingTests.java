@@ -0,0 +1,81 @@
+package com.example.ContactManagementApi.Metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class ServerTimingTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ServerTimingProperties serverTimingProperties;
+
+	private HttpHeaders adminHeaders;
+
+	@BeforeEach
+	void loginAdmin() {
+		Map<String, String> credentials = Map.of("username", "timing-admin", "password", "secret");
+		restTemplate.postForEntity("/api/auth/signup/admin", credentials, String.class);
+		Map<?, ?> login = restTemplate.postForObject("/api/auth/login/admin", credentials, Map.class);
+		adminHeaders = new HttpHeaders();
+		adminHeaders.setBearerAuth((String) login.get("token"));
+	}
+
+	@AfterEach
+	void disableServerTiming() {
+		serverTimingProperties.setEnabled(false);
+	}
+
+	@Test
+	void headerIsOnlySentOnceEnabledByAnAdmin() {
+		assertNull(retrieveUsers().getHeaders().getFirst("Server-Timing"));
+
+		ResponseEntity<String> toggle = restTemplate.exchange("/api/admin/server-timing?enabled=true", HttpMethod.PUT,
+				new HttpEntity<>(adminHeaders), String.class);
+		assertEquals(HttpStatus.OK, toggle.getStatusCode());
+
+		ResponseEntity<String> users = retrieveUsers();
+		assertEquals(HttpStatus.OK, users.getStatusCode());
+		String serverTiming = users.getHeaders().getFirst("Server-Timing");
+		for (String stage : new String[] { "jwt", "user", "db", "handler", "serialize", "total" }) {
+			assertTrue(serverTiming.contains(stage + ";dur="), serverTiming);
+		}
+	}
+
+	@Test
+	void toggleRequiresTheAdminRole() {
+		Map<String, String> credentials = Map.of("username", "timing-user", "password", "secret");
+		restTemplate.postForEntity("/api/auth/signup/user", credentials, String.class);
+		Map<?, ?> login = restTemplate.postForObject("/api/auth/login/user", credentials, Map.class);
+		HttpHeaders userHeaders = new HttpHeaders();
+		userHeaders.setBearerAuth((String) login.get("token"));
+
+		ResponseEntity<String> toggle = restTemplate.exchange("/api/admin/server-timing?enabled=true", HttpMethod.PUT,
+				new HttpEntity<>(userHeaders), String.class);
+
+		assertEquals(HttpStatus.FORBIDDEN, toggle.getStatusCode());
+		assertEquals(false, serverTimingProperties.isEnabled());
+	}
+
+	private ResponseEntity<String> retrieveUsers() {
+		return restTemplate.exchange("/users/all", HttpMethod.GET, new HttpEntity<>(adminHeaders),
+				String.class);
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.example.ContactManagementApi.Metrics;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Assertions on the number of SQL statements an operation executes, counted by
+ * StatementCounter on the calling thread.
+ */
+public final class StatementAssertions {
+
+	private StatementAssertions() {
+	}
+
+	/**
+	 * Runs the operation and fails if it prepared more than the given number of
+	 * statements. The failure lists every statement with its count, so repeated
+	 * statements stand out.
+	 */
+	public static <T> T assertMaxStatements(int max, Supplier<T> operation) {
+		StatementCounter.reset();
+		T result = operation.get();
+		int count = StatementCounter.count();
+		if (count > max) {
+			String statements = StatementCounter.countsBySql().entrySet().stream()
+					.sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+					.map(entry -> entry.getValue() + "x " + entry.getKey()).collect(Collectors.joining("\n"));
+			fail("Expected at most " + max + " SQL statements but " + count + " were executed:\n" + statements);
+		}
+		return result;
+	}
+
+	/**
+	 * Runs the operation and fails if it prepared more than the given number of
+	 * statements.
+	 */
+	public static void assertMaxStatements(int max, Runnable operation) {
+		assertMaxStatements(max, () -> {
+			operation.run();
+			return null;
+		});
+	}
+
+}
@@ -0,0 +1,200 @@
+package com.example.ContactManagementApi.Outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.Entity.ContactEvent;
+import com.example.ContactManagementApi.Enum.ChangeType;
+import com.example.ContactManagementApi.Repository.ContactEventRepository;
+import com.example.ContactManagementApi.Service.ContactService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = { "app.outbox.relay-enabled=true",
+		"app.outbox.poll-interval=100ms", "app.outbox.gap-timeout=500ms", "app.server-timing.enabled=true" })
+class OutboxTests {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ContactService contactService;
+
+	@Autowired
+	private ContactEventRepository contactEventRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void eventIsOnlyRecordedWhenTheWriteCommits() {
+		Contact first = contactService.createContact(contact("outbox-first@example.com", "+919800000001"));
+		Contact second = contactService.createContact(contact("outbox-second@example.com", "+919800000002"));
+		long latestId = contactEventRepository.findLatestId();
+
+		// The update is flushed after its event was inserted, and fails on commit
+		assertThrows(DataIntegrityViolationException.class,
+				() -> contactService.updateContact(second.getId(), contact(first.getEmail(), "+919800000003")));
+
+		assertEquals(latestId, contactEventRepository.findLatestId());
+		ContactEvent created = contactEventRepository.findById(latestId).orElseThrow();
+		assertEquals(ChangeType.CREATED, created.getType());
+		assertEquals(second.getId(), created.getContactId());
+		assertTrue(created.getPayload().contains("\"email\":\"outbox-second@example.com\""));
+	}
+
+	@Test
+	void eventCommittedAfterItsOffsetWasSkippedIsPublishedLate() throws Exception {
+		double skipped = meterRegistry.counter("outbox.gaps.skipped").count();
+		double filled = meterRegistry.counter("outbox.gaps.filled").count();
+		CountDownLatch inserted = new CountDownLatch(1);
+		CountDownLatch commit = new CountDownLatch(1);
+		CompletableFuture<Contact> slow = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+			Contact contact = contactService.createContact(contact("outbox-slow@example.com", "+919800000021"));
+			inserted.countDown();
+			try {
+				commit.await();
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			return contact;
+		}));
+		assertTrue(inserted.await(10, TimeUnit.SECONDS));
+
+		// A later write commits first, and the relay skips the open offset
+		contactService.createContact(contact("outbox-fast@example.com", "+919800000022"));
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			while (meterRegistry.counter("outbox.gaps.skipped").count() == skipped) {
+				Thread.sleep(10);
+			}
+		});
+
+		commit.countDown();
+		slow.get(10, TimeUnit.SECONDS);
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			while (meterRegistry.counter("outbox.gaps.filled").count() == filled) {
+				Thread.sleep(10);
+			}
+		});
+	}
+
+	@Test
+	void streamResumesAfterAnOffsetAndSendsNewChanges() throws Exception {
+		HttpHeaders adminHeaders = loginAdmin();
+		long offset = contactEventRepository.findLatestId();
+		register(adminHeaders, "stream-missed@example.com", "+919800000011");
+
+		HttpResponse<Stream<String>> response = connect(adminHeaders, offset, true);
+		try (Stream<String> body = response.body()) {
+			assertEquals(200, response.statusCode());
+			Iterator<String> lines = body.iterator();
+
+			Map<String, String> missed = nextEvent(lines);
+			assertEquals("contacts.created", missed.get("event"));
+			assertTrue(missed.get("data").contains("stream-missed@example.com"));
+
+			register(adminHeaders, "stream-new@example.com", "+919800000012");
+			Map<String, String> created = nextEvent(lines);
+			assertEquals("contacts.created", created.get("event"));
+			assertTrue(created.get("data").contains("stream-new@example.com"));
+			assertTrue(Long.parseLong(created.get("id")) > Long.parseLong(missed.get("id")));
+		}
+	}
+
+	@Test
+	void streamIsNotBufferedWithoutAnAcceptHeader() throws Exception {
+		HttpHeaders adminHeaders = loginAdmin();
+		HttpResponse<Stream<String>> response = connect(adminHeaders, contactEventRepository.findLatestId(), false);
+		try (Stream<String> body = response.body()) {
+			assertEquals(200, response.statusCode());
+			register(adminHeaders, "stream-unbuffered@example.com", "+919800000013");
+			assertTrue(nextEvent(body.iterator()).get("data").contains("stream-unbuffered@example.com"));
+		}
+	}
+
+	private HttpResponse<Stream<String>> connect(HttpHeaders adminHeaders, long offset, boolean acceptEventStream)
+			throws Exception {
+		HttpRequest.Builder request = HttpRequest
+				.newBuilder(URI.create("http://localhost:" + port + "/api/changes/stream?after=" + offset))
+				.header(HttpHeaders.AUTHORIZATION, adminHeaders.getFirst(HttpHeaders.AUTHORIZATION));
+		if (acceptEventStream) {
+			request.header(HttpHeaders.ACCEPT, "text/event-stream");
+		}
+		return HttpClient.newHttpClient().send(request.build(), BodyHandlers.ofLines());
+	}
+
+	// Reads the fields of the next event, skipping heartbeats
+	private static Map<String, String> nextEvent(Iterator<String> lines) {
+		return assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			Map<String, String> fields = new HashMap<>();
+			while (true) {
+				String line = lines.next();
+				if (line.isEmpty()) {
+					if (fields.containsKey("event")) {
+						return fields;
+					}
+				} else if (!line.startsWith(":")) {
+					int colon = line.indexOf(':');
+					fields.put(line.substring(0, colon), line.substring(colon + 1));
+				}
+			}
+		});
+	}
+
+	private HttpHeaders loginAdmin() {
+		Map<String, String> credentials = Map.of("username", "outbox-admin", "password", "secret");
+		restTemplate.postForEntity("/api/auth/signup/admin", credentials, String.class);
+		Map<?, ?> login = restTemplate.postForObject("/api/auth/login/admin", credentials, Map.class);
+		HttpHeaders headers = new HttpHeaders();
+		headers.setBearerAuth((String) login.get("token"));
+		return headers;
+	}
+
+	private void register(HttpHeaders adminHeaders, String email, String phoneNumber) {
+		Map<String, String> contact = Map.of("firstName", "Stream", "lastName", "Test", "email", email, "phoneNumber",
+				phoneNumber);
+		restTemplate.exchange("/api/contacts/register", HttpMethod.POST, new HttpEntity<>(contact, adminHeaders),
+				String.class);
+	}
+
+	private static Contact contact(String email, String phoneNumber) {
+		Contact contact = new Contact();
+		contact.setFirstName("Outbox");
+		contact.setLastName("Test");
+		contact.setEmail(email);
+		contact.setPhoneNumber(phoneNumber);
+		return contact;
+	}
+
+}
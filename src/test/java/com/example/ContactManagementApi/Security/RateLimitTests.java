@@ -0,0 +1,69 @@
+package com.example.ContactManagementApi.Security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = { "app.rate-limit.enabled=true",
+		"app.rate-limit.auth.requests=4", "app.rate-limit.bulk.requests=2", "app.rate-limit.bulk.period=1h" })
+class RateLimitTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	void bulkRequestsAreLimitedPerUserAndAuthRequestsPerIp() {
+		HttpHeaders alice = login("limit-alice");
+		HttpHeaders bob = login("limit-bob");
+
+		ResponseEntity<String> first = retrieveContacts(alice);
+		assertEquals(HttpStatus.OK, first.getStatusCode());
+		assertEquals("2", first.getHeaders().getFirst("RateLimit-Limit"));
+		assertEquals("1", first.getHeaders().getFirst("RateLimit-Remaining"));
+		assertEquals(HttpStatus.OK, retrieveContacts(alice).getStatusCode());
+
+		ResponseEntity<String> rejected = retrieveContacts(alice);
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getStatusCode());
+		assertTrue(Long.parseLong(rejected.getHeaders().getFirst("Retry-After")) > 0);
+
+		// Batch lookups are reads, charged one request per 10 IDs
+		ResponseEntity<String> batch = restTemplate.exchange("/api/contacts/retrieve/batch?ids=1,2,3,4,5,6,7,8,9,10,11",
+				HttpMethod.GET, new HttpEntity<>(alice), String.class);
+		assertEquals(HttpStatus.OK, batch.getStatusCode());
+		assertEquals("100", batch.getHeaders().getFirst("RateLimit-Limit"));
+		assertEquals("98", batch.getHeaders().getFirst("RateLimit-Remaining"));
+
+		// Another user has a bucket of their own, reads by ID a separate limit
+		assertEquals(HttpStatus.OK, retrieveContacts(bob).getStatusCode());
+		assertEquals(HttpStatus.OK, restTemplate.exchange("/users/current", HttpMethod.GET, new HttpEntity<>(alice),
+				String.class).getStatusCode());
+
+		// Four auth requests were sent from this IP by the two logins
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, restTemplate.postForEntity("/api/auth/login/admin",
+				Map.of("username", "limit-alice", "password", "secret"), String.class).getStatusCode());
+	}
+
+	private HttpHeaders login(String username) {
+		Map<String, String> credentials = Map.of("username", username, "password", "secret");
+		restTemplate.postForEntity("/api/auth/signup/admin", credentials, String.class);
+		Map<?, ?> login = restTemplate.postForObject("/api/auth/login/admin", credentials, Map.class);
+		HttpHeaders headers = new HttpHeaders();
+		headers.setBearerAuth((String) login.get("token"));
+		return headers;
+	}
+
+	private ResponseEntity<String> retrieveContacts(HttpHeaders headers) {
+		return restTemplate.exchange("/api/contacts/retrieve", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.example.ContactManagementApi.Security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.example.ContactManagementApi.Security.RateLimitProperties.Limit;
+import com.example.ContactManagementApi.Security.RateLimiter.Decision;
+import com.example.ContactManagementApi.Security.RateLimiter.EndpointClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void newClientsAreLimitedWhileAllBucketsAreInUse() {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setMaxBuckets(2);
+		properties.setRead(new Limit(1, Duration.ofHours(1)));
+		RateLimiter rateLimiter = new RateLimiter();
+		ReflectionTestUtils.setField(rateLimiter, "properties", properties);
+		ReflectionTestUtils.setField(rateLimiter, "meterRegistry", meterRegistry);
+		rateLimiter.registerMeters();
+
+		assertTrue(rateLimiter.acquire(EndpointClass.READ, "user:alice").allowed());
+		assertTrue(rateLimiter.acquire(EndpointClass.READ, "user:bob").allowed());
+
+		// Neither bucket fills up for an hour, so there is no room for a third
+		Decision rejected = rateLimiter.acquire(EndpointClass.READ, "user:carol");
+		assertFalse(rejected.allowed());
+		assertTrue(rejected.retryAfterSeconds() > 0);
+
+		// The clients being limited keep their buckets
+		assertFalse(rateLimiter.acquire(EndpointClass.READ, "user:alice").allowed());
+		assertEquals(2, meterRegistry.get("ratelimit.buckets").gauge().value());
+		assertEquals(2, meterRegistry.get("ratelimit.rejected").tag("class", "read").counter().count());
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.example.ContactManagementApi.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.example.ContactManagementApi.Exception.BulkheadFullException;
+import com.example.ContactManagementApi.Service.Bulkheads.Pool;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = { "app.bulkheads.merge.queue-size=1", "app.bulkheads.merge.queue-timeout=50ms" })
+class BulkheadsTests {
+
+	@Autowired
+	private Bulkheads bulkheads;
+
+	@Autowired
+	private ContactWithDuplicatesService contactWithDuplicatesService;
+
+	@Autowired
+	private ContactService contactService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void mergeWaitsForItsPermitAndTimesOut() {
+		bulkheads.acquire(Pool.MERGE);
+		try {
+			assertEquals(1, meterRegistry.get("bulkhead.active").tag("name", "merge").gauge().value());
+			assertThrows(BulkheadFullException.class, contactWithDuplicatesService::mergeDuplicateContacts);
+			assertEquals(1, meterRegistry.get("bulkhead.rejected").tag("name", "merge").tag("reason", "timeout")
+					.counter().count());
+
+			// Bulk reads have a pool of their own
+			contactService.getAllContacts();
+		} finally {
+			bulkheads.release(Pool.MERGE);
+		}
+
+		contactWithDuplicatesService.mergeDuplicateContacts();
+		assertEquals(0, meterRegistry.get("bulkhead.active").tag("name", "merge").gauge().value());
+	}
+
+}
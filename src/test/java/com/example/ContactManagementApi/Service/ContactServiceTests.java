@@ -0,0 +1,147 @@
+package com.example.ContactManagementApi.Service;
+
+import static com.example.ContactManagementApi.Metrics.StatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.Repository.ContactRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class ContactServiceTests {
+
+	@Autowired
+	private ContactService contactService;
+
+	@SpyBean
+	private ContactRepository contactRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Statistics statistics;
+
+	private Contact contact;
+
+	@BeforeEach
+	void createContact() {
+		contactRepository.deleteAll();
+		contact = contactService.createContact(contact("John", "john@example.com", "+911234567890"));
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void updateContactUsesOneTransactionAndConnection() {
+		contactService.updateContact(contact.getId(), contact("Jane", "jane@example.com", "+911234567891"));
+
+		assertEquals(1, statistics.getTransactionCount());
+		assertEquals(1, statistics.getConnectCount());
+		assertEquals(1, statistics.getEntityUpdateCount());
+		assertEquals("Jane", contactRepository.findById(contact.getId()).orElseThrow().getFirstName());
+	}
+
+	@Test
+	void readsDoNotFlushOrUpdate() {
+		contactService.getAllContacts().forEach(found -> found.setFirstName("Changed"));
+
+		assertEquals(0, statistics.getFlushCount());
+		assertEquals(0, statistics.getEntityUpdateCount());
+		assertEquals("John", contactRepository.findById(contact.getId()).orElseThrow().getFirstName());
+	}
+
+	@Test
+	void getContactsByIdsKeepsTheRequestedOrder() {
+		Contact other = contactService.createContact(contact("Jane", "jane@example.com", "+911234567891"));
+		entityManagerFactory.getCache().evict(Contact.class);
+		List<Long> ids = Arrays.asList(other.getId(), -1L, contact.getId(), other.getId());
+
+		// Both contacts are loaded with one query
+		List<Contact> contacts = assertMaxStatements(1, () -> contactService.getContactsByIds(ids));
+		assertEquals("Jane", contacts.get(0).getFirstName());
+		assertNull(contacts.get(1));
+		assertEquals("John", contacts.get(2).getFirstName());
+		assertEquals("Jane", contacts.get(3).getFirstName());
+
+		// and then served from the second-level cache, one hit per position; only
+		// the missing ID is queried
+		assertMaxStatements(1, () -> contactService.getContactsByIds(ids));
+		assertEquals(3, statistics.getSecondLevelCacheHitCount());
+	}
+
+	@Test
+	void callersWaitingForALookupHoldNoConnection() throws Exception {
+		int callers = 8;
+		CountDownLatch querying = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			querying.countDown();
+			release.await();
+			return Optional.of(contact);
+		}).when(contactRepository).findById(any());
+		double shared = sharedLookups();
+
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<Optional<Contact>>> lookups = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				lookups.add(executor.submit(() -> contactService.getContactById(contact.getId())));
+			}
+			querying.await();
+			while (sharedLookups() < shared + callers - 1) {
+				Thread.sleep(1);
+			}
+
+			// Only the caller running the query has a connection
+			assertEquals(1, dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections());
+			release.countDown();
+			for (Future<Optional<Contact>> lookup : lookups) {
+				assertEquals("John", lookup.get().orElseThrow().getFirstName());
+			}
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	private double sharedLookups() {
+		return meterRegistry.counter("singleflight.calls", "name", "contact", "result", "shared").count();
+	}
+
+	private static Contact contact(String firstName, String email, String phoneNumber) {
+		Contact contact = new Contact();
+		contact.setFirstName(firstName);
+		contact.setLastName("Doe");
+		contact.setEmail(email);
+		contact.setPhoneNumber(phoneNumber);
+		contact.setAddress("1 Main Street");
+		return contact;
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.example.ContactManagementApi.Service;
+
+import static com.example.ContactManagementApi.Metrics.StatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.example.ContactManagementApi.Entity.ContactWithDuplicates;
+import com.example.ContactManagementApi.Repository.ContactWithDuplicatesRepository;
+
+@SpringBootTest
+class ContactWithDuplicatesServiceTests {
+
+	private static final int ORIGINALS = 20;
+
+	@Autowired
+	private ContactWithDuplicatesService contactWithDuplicatesService;
+
+	@Autowired
+	private ContactWithDuplicatesRepository contactWithDuplicatesRepository;
+
+	@BeforeEach
+	void seedDuplicates() {
+		contactWithDuplicatesRepository.deleteAllInBatch();
+		List<ContactWithDuplicates> contacts = new ArrayList<>();
+		for (int i = 0; i < ORIGINALS; i++) {
+			contacts.add(contact("Original", "contact" + i + "@example.com", String.format("+9100000000%02d", i)));
+			// Every original gets one duplicate sharing its email
+			contacts.add(contact("Duplicate", "contact" + i + "@example.com", String.format("+9111111111%02d", i)));
+		}
+		contactWithDuplicatesRepository.saveAll(contacts);
+	}
+
+	@Test
+	void mergeStatementCountDoesNotGrowWithDuplicates() {
+		// One select, one batched update, one bulk delete and the outbox insert
+		assertMaxStatements(4, () -> contactWithDuplicatesService.mergeDuplicateContacts());
+
+		List<ContactWithDuplicates> merged = contactWithDuplicatesRepository.findAll();
+		assertEquals(ORIGINALS, merged.size());
+		merged.forEach(contact -> assertEquals("Duplicate", contact.getFirstName()));
+	}
+
+	private static ContactWithDuplicates contact(String firstName, String email, String phoneNumber) {
+		ContactWithDuplicates contact = new ContactWithDuplicates();
+		contact.setFirstName(firstName);
+		contact.setLastName("Doe");
+		contact.setEmail(email);
+		contact.setPhoneNumber(phoneNumber);
+		return contact;
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.example.ContactManagementApi.Service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import com.example.ContactManagementApi.Entity.Contact;
+import com.example.ContactManagementApi.Service.ResponseCache.Region;
+
+@SpringBootTest
+class ResponseCacheTests {
+
+	@Autowired
+	private ResponseCache responseCache;
+
+	@Autowired
+	private ContactService contactService;
+
+	@Test
+	void responsesAreServedFromTheCacheUntilAContactIsWritten() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/contacts/retrieve");
+		request.setQueryString("test=invalidation");
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<List<String>> loader = () -> List.of("contact" + loads.incrementAndGet());
+
+		ResponseEntity<byte[]> first = responseCache.respond(Region.CONTACTS, request, loader);
+		ResponseEntity<byte[]> second = responseCache.respond(Region.CONTACTS, request, loader);
+		assertEquals(1, loads.get());
+		assertArrayEquals(first.getBody(), second.getBody());
+
+		Contact contact = new Contact();
+		contact.setFirstName("Cache");
+		contact.setLastName("Invalidation");
+		contact.setEmail("cache@example.com");
+		contact.setPhoneNumber("+919876543210");
+		contactService.createContact(contact);
+
+		assertEquals("[\"contact2\"]", new String(responseCache.respond(Region.CONTACTS, request, loader).getBody()));
+		// Other regions are not affected
+		responseCache.respond(Region.DUPLICATE_CONTACTS, request, loader);
+		responseCache.respond(Region.DUPLICATE_CONTACTS, request, loader);
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void requestsAfterAWriteDoNotJoinARenderStartedBeforeIt() throws Exception {
+		CountDownLatch rendering = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<ResponseEntity<byte[]>> before = CompletableFuture
+				.supplyAsync(() -> responseCache.respond(Region.CONTACTS, request("test=render"), () -> {
+					rendering.countDown();
+					await(release);
+					return List.of("before");
+				}));
+		rendering.await();
+
+		try {
+			responseCache.invalidate(Region.CONTACTS);
+			ResponseEntity<byte[]> after = responseCache.respond(Region.CONTACTS, request("test=render"),
+					() -> List.of("after"));
+			assertEquals("[\"after\"]", new String(after.getBody()));
+		} finally {
+			release.countDown();
+		}
+		assertEquals("[\"before\"]", new String(before.get().getBody()));
+	}
+
+	@Test
+	void largeResponsesAreGzippedForClientsThatAcceptIt() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/contacts/retrieve");
+		request.setQueryString("test=gzip");
+		Supplier<List<String>> loader = () -> Collections.nCopies(500, "contact");
+		byte[] plain = responseCache.respond(Region.CONTACTS, request, loader).getBody();
+
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+		ResponseEntity<byte[]> gzipped = responseCache.respond(Region.CONTACTS, request, loader);
+
+		assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+		try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+			assertArrayEquals(plain, input.readAllBytes());
+		}
+
+		MockHttpServletRequest refused = new MockHttpServletRequest("GET", "/api/contacts/retrieve");
+		refused.setQueryString("test=gzip");
+		refused.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+		assertNull(responseCache.respond(Region.CONTACTS, refused, loader).getHeaders()
+				.getFirst(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	private static MockHttpServletRequest request(String queryString) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/contacts/retrieve");
+		request.setQueryString(queryString);
+		return request;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.example.ContactManagementApi.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTests {
+
+	private static final int CALLERS = 8;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallersShareOneLoad() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+
+		List<Future<String>> results = callConcurrently(() -> singleFlight.load(1L, () -> {
+			loads.incrementAndGet();
+			await(release);
+			return "contact";
+		}));
+		awaitShared(CALLERS - 1);
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertEquals("contact", result.get());
+		}
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void failuresArePropagatedToWaitingCallers() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		IllegalStateException failure = new IllegalStateException("database unavailable");
+
+		List<Future<String>> results = callConcurrently(() -> singleFlight.load(1L, () -> {
+			await(release);
+			throw failure;
+		}));
+		awaitShared(CALLERS - 1);
+		release.countDown();
+
+		for (Future<String> result : results) {
+			Exception thrown = assertThrows(Exception.class, result::get);
+			assertSame(failure, thrown.getCause());
+		}
+		// The failed load is not remembered
+		assertEquals("retried", singleFlight.load(1L, () -> "retried"));
+	}
+
+	@Test
+	void waitingCallersTimeOut() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> slow = executor.submit(() -> singleFlight.load(1L, () -> {
+			await(release);
+			return "contact";
+		}));
+		while (meterRegistry.counter("singleflight.calls", "name", "test", "result", "loaded").count() == 0) {
+			Thread.sleep(1);
+		}
+
+		assertThrows(QueryTimeoutException.class, () -> singleFlight.load(1L, () -> "unexpected"));
+		release.countDown();
+		assertEquals("contact", slow.get());
+	}
+
+	private List<Future<String>> callConcurrently(Callable<String> call) {
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(executor.submit(call));
+		}
+		return results;
+	}
+
+	// Waits until the given number of callers are waiting for another one's load
+	private void awaitShared(int callers) throws InterruptedException {
+		while (meterRegistry.counter("singleflight.calls", "name", "test", "result", "shared").count() < callers) {
+			Thread.sleep(1);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.example.ContactManagementApi.Service;
+
+import static com.example.ContactManagementApi.Metrics.StatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import com.example.ContactManagementApi.Entity.User;
+import com.example.ContactManagementApi.Enum.RoleEnum;
+import com.example.ContactManagementApi.Repository.UserRepository;
+import com.example.ContactManagementApi.request.LoginRequest;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class UserServiceTests {
+
+	private static final int USER_COUNT = 30;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoleRegistry roleRegistry;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@BeforeEach
+	void seedUsers() {
+		for (long i = userRepository.count(); i < USER_COUNT; i++) {
+			User user = new User().setUsername("user" + i).setPassword("secret");
+			user.getRoles().add(roleRegistry.getRole(i % 2 == 0 ? RoleEnum.ROLE_USER : RoleEnum.ROLE_ADMIN));
+			userRepository.save(user);
+		}
+	}
+
+	@Test
+	void allUsersStatementCountDoesNotDependOnPageSize() {
+		long smallPage = countStatements(5);
+		long largePage = countStatements(25);
+
+		// One count query, one page of identifiers and one fetch of users with roles.
+		assertEquals(3, smallPage);
+		assertEquals(smallPage, largePage);
+	}
+
+	@Test
+	void allUsersReturnsUsersWithRolesInPageOrder() {
+		Page<User> page = userService.allUsers(PageRequest.of(1, 10, Sort.by("id")));
+
+		assertEquals(10, page.getNumberOfElements());
+		assertEquals(USER_COUNT, page.getTotalElements());
+		for (int i = 1; i < page.getNumberOfElements(); i++) {
+			assertTrue(page.getContent().get(i - 1).getId() < page.getContent().get(i).getId());
+		}
+		page.forEach(user -> assertFalse(user.getRoles().isEmpty()));
+	}
+
+	@Test
+	void authenticateLoadsTheUserOnce() {
+		if (!userRepository.existsByUsername("login-admin")) {
+			User admin = new User().setUsername("login-admin").setPassword(passwordEncoder.encode("secret"));
+			admin.getRoles().add(roleRegistry.getRole(RoleEnum.ROLE_ADMIN));
+			userRepository.save(admin);
+		}
+		LoginRequest login = new LoginRequest();
+		login.setUsername("login-admin");
+		login.setPassword("secret");
+
+		// One select of the user and at most one of its roles
+		User user = assertMaxStatements(2, () -> userService.authenticate(login, RoleEnum.ROLE_ADMIN));
+
+		assertEquals("login-admin", user.getUsername());
+	}
+
+	// Counts the statements prepared while loading one page of the given size
+	private long countStatements(int pageSize) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		userService.allUsers(PageRequest.of(0, pageSize, Sort.by("id")));
+		return statistics.getPrepareStatementCount();
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.example.ContactManagementApi.Validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import com.example.ContactManagementApi.Entity.Contact;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.Tuple;
+
+/**
+ * Checks that the character scans of ContactFields accept exactly the values
+ * matched by the regular expressions they replace.
+ */
+class ContactFieldsTests {
+
+	private static final Pattern ALPHABETIC = Pattern.compile("^[A-Za-z]+$");
+
+	private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z]+\\.[A-Za-z]{2,}$");
+
+	private static final Pattern PHONE_NUMBER = Pattern.compile("^\\+[0-9]{2}[0-9]{10}$");
+
+	private static final Pattern ADDRESS = Pattern.compile("^[A-Za-z0-9\\s,]*$");
+
+	// Characters at the edges of every class, plus non-ASCII letters, digits and
+	// spaces that a Unicode-aware scan would wrongly accept
+	private static final String EDGE_CHARACTERS = "AZaz09@`[{/:.,_%+- \t\n\u000B\f\r\u001C é٣ \uD83D";
+
+	@Property(tries = 5000)
+	void alphabeticMatchesTheRegex(@ForAll("candidates") String value) {
+		assertEquals(ALPHABETIC.matcher(value).matches(), ContactFields.isAlphabetic(value), value);
+	}
+
+	@Property(tries = 5000)
+	void emailMatchesTheRegex(@ForAll("emails") String value) {
+		assertEquals(EMAIL.matcher(value).matches(), ContactFields.isEmail(value), value);
+	}
+
+	@Property(tries = 5000)
+	void phoneNumberMatchesTheRegex(@ForAll("phoneNumbers") String value) {
+		assertEquals(PHONE_NUMBER.matcher(value).matches(), ContactFields.isPhoneNumber(value), value);
+	}
+
+	@Property(tries = 5000)
+	void addressMatchesTheRegex(@ForAll("candidates") String value) {
+		assertEquals(ADDRESS.matcher(value).matches(), ContactFields.isAddress(value), value);
+	}
+
+	@Example
+	void entityReportsTheSameMessages() {
+		Contact contact = new Contact();
+		contact.setFirstName("J0hn");
+		contact.setLastName("Doe");
+		contact.setEmail("john@example");
+		contact.setPhoneNumber("+91 123456789");
+		contact.setAddress("1 Main Street!");
+
+		Set<String> messages = new TreeSet<>();
+		try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+			Validator validator = factory.getValidator();
+			for (ConstraintViolation<Contact> violation : validator.validate(contact)) {
+				messages.add(violation.getMessage());
+			}
+		}
+
+		assertEquals(Set.of("First name must contain only alphabetic characters", "Email format is invalid",
+				"Invalid phone number format. It should start with + and countrycode", "Invalid address format"),
+				messages);
+	}
+
+	// Short strings over the edge characters and all of ASCII
+	@Provide
+	Arbitrary<String> candidates() {
+		return Arbitraries.oneOf(Arbitraries.strings().withChars(EDGE_CHARACTERS).ofMaxLength(12),
+				Arbitraries.strings().ascii().ofMaxLength(12));
+	}
+
+	// A local part, separator, domain, separator and top-level domain, each
+	// usually valid, so that most strings are close to a valid address
+	@Provide
+	Arbitrary<String> emails() {
+		Arbitrary<String> local = Arbitraries.oneOf(Arbitraries.strings().withChars("aZ9._%+-").ofMaxLength(4),
+				Arbitraries.strings().withChars("aZ9._%+-@`é ").ofMaxLength(4));
+		Arbitrary<String> label = Arbitraries.oneOf(Arbitraries.strings().withChars("aZ").ofMaxLength(3),
+				Arbitraries.strings().withChars("aZ9.@`é").ofMaxLength(3));
+		Arbitrary<String> at = Arbitraries.of("@", "@", "@", "", "@@", ".");
+		Arbitrary<String> dot = Arbitraries.of(".", ".", ".", "", "..", "@", "\n");
+		return Arbitraries.frequencyOf(Tuple.of(1, Arbitraries.strings().withChars(EDGE_CHARACTERS).ofMaxLength(12)),
+				Tuple.of(1, Arbitraries.strings().ascii().ofMaxLength(12)),
+				Tuple.of(8, Combinators.combine(local, at, label, dot, label).as((l, a, d, b, t) -> l + a + d + b + t)));
+	}
+
+	// Mostly a plus sign and digits around the valid length
+	@Provide
+	Arbitrary<String> phoneNumbers() {
+		Arbitrary<String> digits = Arbitraries.strings().withChars("0123456789").ofMinLength(10).ofMaxLength(14);
+		Arbitrary<String> prefix = Arbitraries.of("+", "", "++", "0", " +");
+		Arbitrary<String> suffix = Arbitraries.of("", "", "", "\n", "a", "٣");
+		return Arbitraries.oneOf(Arbitraries.strings().withChars(EDGE_CHARACTERS).ofMaxLength(14),
+				prefix.flatMap(p -> digits.flatMap(d -> suffix.map(s -> p + d + s))));
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.example.ContactManagementApi.Warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import com.example.ContactManagementApi.Warmup.WarmupReport.Status;
+import com.example.ContactManagementApi.Warmup.WarmupReport.WarmedRequest;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = { "app.warmup.enabled=true",
+		"app.warmup.iterations=5" })
+class WarmupTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private WarmupRunner warmupRunner;
+
+	@Test
+	void warmupCompletesBeforeTheApplicationIsReady() {
+		WarmupReport report = warmupRunner.getReport();
+
+		assertEquals(Status.COMPLETED, report.status());
+		assertTrue(report.requests().size() >= 1);
+		for (WarmedRequest request : report.requests()) {
+			assertEquals(5, request.count(), request.request());
+			assertEquals(0, request.unexpectedStatuses(), request.request());
+		}
+
+		ResponseEntity<Map> readiness = restTemplate.getForEntity("/actuator/health/readiness", Map.class);
+		assertEquals(HttpStatus.OK, readiness.getStatusCode());
+		assertEquals("UP", readiness.getBody().get("status"));
+	}
+
+	@Test
+	void authenticatedRequestsAreWarmedOnceAnAdminExists() {
+		restTemplate.postForEntity("/api/auth/signup/admin", Map.of("username", "warmup-admin", "password", "secret"),
+				String.class);
+
+		warmupRunner.run(null);
+
+		WarmupReport report = warmupRunner.getReport();
+		assertEquals(Status.COMPLETED, report.status());
+		assertTrue(report.preloadedUsers() >= 1);
+		assertTrue(report.requests().stream().anyMatch(request -> request.request().equals("GET /users/current")));
+		report.requests().forEach(request -> assertEquals(0, request.unexpectedStatuses(), request.request()));
+	}
+
+}
@@ -2,8 +2,9 @@ package com.example.OnlineBankingSystem;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import com.example.ContactManagementApi.ContactManagementApiApplication;
 
-@SpringBootTest
+@SpringBootTest(classes = ContactManagementApiApplication.class)
 class ContactManagementApiApplicationTests {
 
 	@Test